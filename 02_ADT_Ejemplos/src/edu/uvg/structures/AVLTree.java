@@ -0,0 +1,395 @@
+/**
+ *
+ */
+package edu.uvg.structures;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Binary search tree that stays balanced (AVL tree): in every node the
+ * heights of the left and right subtrees differ at most by one. After an
+ * insert or a delete the nodes on the path back to the root are fixed with
+ * rotations, so the height is at most about 1.44 log2(n) and insert, delete
+ * and find are O(log n) even when the keys arrive sorted.
+ *
+ * The methods are recursive; with the height bounded that way the recursion
+ * depth is small for any number of elements. Every node also keeps the size
+ * of its subtree for rank and select.
+ *
+ * @author MAAG
+ *
+ */
+public class AVLTree<K, V> implements IBinarySearchTree<K, V> {
+
+	private int count;
+	private AVLNode<K, V> root;
+	private Comparator<K> keyComparator;
+
+	//Value found by the last delete, the recursion returns the new subtree
+	private V deletedValue;
+
+	public AVLTree(Comparator<K> _keyComparator) {
+		this.keyComparator = _keyComparator;
+		root = null;
+		count = 0;
+	}
+
+	/**
+	 * Inserts the pair; like BinarySearchTree, an id that is already in the
+	 * tree is ignored.
+	 */
+	@Override
+	public void insert(K id, V value) {
+		root = internalInsert(root, id, value);
+	}
+
+	@Override
+	public V delete(K id) {
+		deletedValue = null;
+		root = internalDelete(root, id);
+		V temp = deletedValue;
+		deletedValue = null;
+		return temp;
+	}
+
+	@Override
+	public V find(K id) {
+		AVLNode<K, V> actual = root;
+
+		while (actual != null) {
+			int result = keyComparator.compare(actual.id, id);
+
+			if (result > 0) {
+				actual = actual.left;
+			} else if (result < 0) {
+				actual = actual.right;
+			} else {
+				return actual.value;
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public int count() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Height of the tree, 0 when it is empty.
+	 */
+	public int height() {
+		return height(root);
+	}
+
+	@Override
+	public ArrayList<V> getElements() {
+		ArrayList<V> list = new ArrayList<V>(count);
+
+		internalInOrder(root, list::add);
+
+		return list;
+	}
+
+	@Override
+	public void inOrder(ITreeTraversal<V> traversal) {
+		internalInOrder(root, traversal);
+	}
+
+	@Override
+	public void preOrder(ITreeTraversal<V> traversal) {
+		internalPreOrder(root, traversal);
+	}
+
+	@Override
+	public void postOrder(ITreeTraversal<V> traversal) {
+		internalPostOrder(root, traversal);
+	}
+
+	@Override
+	public void range(K from, K to, ITreeTraversal<V> traversal) {
+		internalRange(root, from, to, traversal);
+	}
+
+	@Override
+	public K floor(K id) {
+		AVLNode<K, V> actual = root;
+		AVLNode<K, V> candidate = null;
+
+		while (actual != null) {
+			int result = keyComparator.compare(actual.id, id);
+
+			if (result > 0) {
+				actual = actual.left;
+			} else if (result < 0) {
+				candidate = actual;
+				actual = actual.right;
+			} else {
+				return actual.id;
+			}
+		}
+
+		return (candidate != null) ? candidate.id : null;
+	}
+
+	@Override
+	public K ceiling(K id) {
+		AVLNode<K, V> actual = root;
+		AVLNode<K, V> candidate = null;
+
+		while (actual != null) {
+			int result = keyComparator.compare(actual.id, id);
+
+			if (result > 0) {
+				candidate = actual;
+				actual = actual.left;
+			} else if (result < 0) {
+				actual = actual.right;
+			} else {
+				return actual.id;
+			}
+		}
+
+		return (candidate != null) ? candidate.id : null;
+	}
+
+	@Override
+	public int rank(K id) {
+		AVLNode<K, V> actual = root;
+		int rank = 0;
+
+		while (actual != null) {
+			int result = keyComparator.compare(actual.id, id);
+
+			if (result > 0) {
+				actual = actual.left;
+			} else if (result < 0) {
+				rank += sizeOf(actual.left) + 1;
+				actual = actual.right;
+			} else {
+				return rank + sizeOf(actual.left);
+			}
+		}
+
+		return rank;
+	}
+
+	@Override
+	public K select(int index) {
+		if ((index < 0) || (index >= count)) {
+			return null;
+		}
+
+		AVLNode<K, V> actual = root;
+		while (true) {
+			int leftSize = sizeOf(actual.left);
+
+			if (index < leftSize) {
+				actual = actual.left;
+			} else if (index > leftSize) {
+				index -= leftSize + 1;
+				actual = actual.right;
+			} else {
+				return actual.id;
+			}
+		}
+	}
+
+	private AVLNode<K, V> internalInsert(AVLNode<K, V> actual, K id, V value) {
+		if (actual == null) {
+			count++;
+			return new AVLNode<K, V>(id, value);
+		}
+
+		int result = keyComparator.compare(actual.id, id);
+
+		if (result > 0) {
+			actual.left = internalInsert(actual.left, id, value);
+		} else if (result < 0) {
+			actual.right = internalInsert(actual.right, id, value);
+		} else { //The id is already in the tree
+			return actual;
+		}
+
+		return rebalance(actual);
+	}
+
+	private AVLNode<K, V> internalDelete(AVLNode<K, V> actual, K id) {
+		if (actual == null) {
+			return null;
+		}
+
+		int result = keyComparator.compare(actual.id, id);
+
+		if (result > 0) {
+			actual.left = internalDelete(actual.left, id);
+		} else if (result < 0) {
+			actual.right = internalDelete(actual.right, id);
+		} else { //actual is the node to be deleted
+			deletedValue = actual.value;
+			count--;
+
+			if (actual.left == null) {
+				return actual.right;
+			} else if (actual.right == null) {
+				return actual.left;
+			}
+
+			//Two children, the leftmost node of the right side takes its place
+			AVLNode<K, V> leftOfTheRights = actual.right;
+			while (leftOfTheRights.left != null) {
+				leftOfTheRights = leftOfTheRights.left;
+			}
+			leftOfTheRights.right = removeMin(actual.right);
+			leftOfTheRights.left = actual.left;
+			actual = leftOfTheRights;
+		}
+
+		return rebalance(actual);
+	}
+
+	/**
+	 * Unlinks the leftmost node of the subtree and returns the subtree
+	 * without it, balanced.
+	 */
+	private AVLNode<K, V> removeMin(AVLNode<K, V> actual) {
+		if (actual.left == null) {
+			return actual.right;
+		}
+		actual.left = removeMin(actual.left);
+		return rebalance(actual);
+	}
+
+	/**
+	 * Updates the height and size of the node and rotates it when one side is
+	 * two levels taller than the other. Returns the root of the subtree.
+	 */
+	private AVLNode<K, V> rebalance(AVLNode<K, V> actual) {
+		update(actual);
+		int balance = height(actual.left) - height(actual.right);
+
+		if (balance > 1) { //Left side is taller
+			if (height(actual.left.left) < height(actual.left.right)) { //Left-right case
+				actual.left = rotateLeft(actual.left);
+			}
+			return rotateRight(actual);
+		} else if (balance < -1) { //Right side is taller
+			if (height(actual.right.right) < height(actual.right.left)) { //Right-left case
+				actual.right = rotateRight(actual.right);
+			}
+			return rotateLeft(actual);
+		}
+
+		return actual;
+	}
+
+	private AVLNode<K, V> rotateRight(AVLNode<K, V> actual) {
+		AVLNode<K, V> newRoot = actual.left;
+		actual.left = newRoot.right;
+		newRoot.right = actual;
+		update(actual);
+		update(newRoot);
+		return newRoot;
+	}
+
+	private AVLNode<K, V> rotateLeft(AVLNode<K, V> actual) {
+		AVLNode<K, V> newRoot = actual.right;
+		actual.right = newRoot.left;
+		newRoot.left = actual;
+		update(actual);
+		update(newRoot);
+		return newRoot;
+	}
+
+	private static int height(AVLNode<?, ?> actual) {
+		return (actual == null) ? 0 : actual.height;
+	}
+
+	private static int sizeOf(AVLNode<?, ?> actual) {
+		return (actual == null) ? 0 : actual.size;
+	}
+
+	/**
+	 * Recomputes the height and the size of the node from its children.
+	 */
+	private static void update(AVLNode<?, ?> actual) {
+		actual.height = 1 + Math.max(height(actual.left), height(actual.right));
+		actual.size = 1 + sizeOf(actual.left) + sizeOf(actual.right);
+	}
+
+	/**
+	 * In order walk that only goes into a side when it can have ids between
+	 * from and to.
+	 */
+	private void internalRange(AVLNode<K, V> actual, K from, K to, ITreeTraversal<V> traversal) {
+		if (actual != null) {
+			boolean afterFrom = keyComparator.compare(actual.id, from) >= 0;
+			boolean beforeTo = keyComparator.compare(actual.id, to) <= 0;
+
+			if (afterFrom) {
+				internalRange(actual.left, from, to, traversal);
+			}
+			if (afterFrom && beforeTo) {
+				traversal.Walk(actual.value);
+			}
+			if (beforeTo) {
+				internalRange(actual.right, from, to, traversal);
+			}
+		}
+	}
+
+	private void internalInOrder(AVLNode<K, V> actual, ITreeTraversal<V> traversal) {
+		if (actual != null) {
+			internalInOrder(actual.left, traversal);
+
+			traversal.Walk(actual.value);
+
+			internalInOrder(actual.right, traversal);
+		}
+	}
+
+	private void internalPreOrder(AVLNode<K, V> actual, ITreeTraversal<V> traversal) {
+		if (actual != null) {
+			traversal.Walk(actual.value);
+
+			internalPreOrder(actual.left, traversal);
+
+			internalPreOrder(actual.right, traversal);
+		}
+	}
+
+	private void internalPostOrder(AVLNode<K, V> actual, ITreeTraversal<V> traversal) {
+		if (actual != null) {
+			internalPostOrder(actual.left, traversal);
+
+			internalPostOrder(actual.right, traversal);
+
+			traversal.Walk(actual.value);
+		}
+	}
+
+	private static final class AVLNode<K, V> {
+
+		private final K id;
+		private final V value;
+		private AVLNode<K, V> left;
+		private AVLNode<K, V> right;
+		private int height;
+		private int size;
+
+		AVLNode(K id, V value) {
+			this.id = id;
+			this.value = value;
+			this.height = 1;
+			this.size = 1;
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/**
+ *
+ */
+package edu.uvg.structures;
+
+/**
+ * Double ended queue stored in a circular array whose length is a power of
+ * two, so the positions wrap around with a mask instead of a division. The
+ * array doubles when it is full; push, pull and the deque operations do not
+ * allocate otherwise, unlike the stacks that create a node per push.
+ *
+ * As an IStack the top of the stack is the first element of the deque.
+ *
+ * @author MAAG
+ *
+ */
+public class ArrayDequeStack<T> implements IStack<T> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	private int head; //position of the first element
+	private int count;
+
+	public ArrayDequeStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty deque with room for at least initialCapacity elements
+	 * before growing.
+	 */
+	public ArrayDequeStack(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		int capacity = Integer.highestOneBit(Math.max(initialCapacity, 1));
+		if (capacity < initialCapacity) {
+			capacity <<= 1;
+		}
+		elements = new Object[capacity];
+		head = 0;
+		count = 0;
+	}
+
+	@Override
+	public int count() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	public void push(T value) {
+		addFirst(value);
+	}
+
+	@Override
+	public T pull() {
+		return pollFirst();
+	}
+
+	@Override
+	public T peek() {
+		return peekFirst();
+	}
+
+	public void addFirst(T value) {
+		if (count == elements.length) {
+			grow();
+		}
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = value;
+		count++;
+	}
+
+	public void addLast(T value) {
+		if (count == elements.length) {
+			grow();
+		}
+		elements[(head + count) & (elements.length - 1)] = value;
+		count++;
+	}
+
+	/**
+	 * Removes and returns the first element, or null when the deque is empty.
+	 */
+	public T pollFirst() {
+		if (count == 0) {
+			return null;
+		}
+		T value = elementAt(head);
+		elements[head] = null; //let the garbage collector reclaim the value
+		head = (head + 1) & (elements.length - 1);
+		count--;
+		return value;
+	}
+
+	/**
+	 * Removes and returns the last element, or null when the deque is empty.
+	 */
+	public T pollLast() {
+		if (count == 0) {
+			return null;
+		}
+		int last = (head + count - 1) & (elements.length - 1);
+		T value = elementAt(last);
+		elements[last] = null;
+		count--;
+		return value;
+	}
+
+	public T peekFirst() {
+		return (count == 0) ? null : elementAt(head);
+	}
+
+	public T peekLast() {
+		return (count == 0) ? null : elementAt((head + count - 1) & (elements.length - 1));
+	}
+
+	/**
+	 * Returns the element at the given position counted from the first one,
+	 * or null when the index is out of range.
+	 */
+	public T get(int index) {
+		if ((index < 0) || (index >= count)) {
+			return null;
+		}
+		return elementAt((head + index) & (elements.length - 1));
+	}
+
+	/**
+	 * Removes all the elements, keeping the current capacity.
+	 */
+	public void clear() {
+		for (int i = 0; i < count; i++) {
+			elements[(head + i) & (elements.length - 1)] = null;
+		}
+		head = 0;
+		count = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T elementAt(int position) {
+		return (T) elements[position];
+	}
+
+	/**
+	 * Doubles the array, copying the elements in order to the start of it.
+	 */
+	private void grow() {
+		int capacity = elements.length << 1;
+		if (capacity < 0) {
+			throw new IllegalStateException("Deque too big");
+		}
+		Object[] newElements = new Object[capacity];
+		int firstPart = elements.length - head;
+		System.arraycopy(elements, head, newElements, 0, firstPart);
+		System.arraycopy(elements, 0, newElements, firstPart, head);
+		elements = newElements;
+		head = 0;
+	}
+
+}
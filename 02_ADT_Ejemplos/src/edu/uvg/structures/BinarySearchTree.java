@@ -4,13 +4,38 @@
 package edu.uvg.structures;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
+ * Binary search tree with parent links. Insert, find, delete and the
+ * traversals are loops instead of recursive calls, so a tree that degenerates
+ * into a list (for example when the keys are inserted in increasing order)
+ * works with any height instead of throwing StackOverflowError. The
+ * traversals move through the parent links and do not allocate memory.
+ * 
+ * Every node keeps the size of its subtree, which gives rank and select in
+ * O(height) without walking the elements.
+ * 
+ * The iterators and the spliterator are lazy and also move through the
+ * parent links, so a stream over the tree uses constant extra memory and can
+ * stop at any point. The tree must not be modified while they are used.
+ * 
  * @author MAAG
  *
  */
-public class BinarySearchTree<K, V> implements IBinarySearchTree<K, V> {
+public class BinarySearchTree<K, V> implements IBinarySearchTree<K, V>, Iterable<V> {
+	
+	//Orders for walk
+	private static final int PRE_ORDER = 0;
+	private static final int IN_ORDER = 1;
+	private static final int POST_ORDER = 2;
 	
 	private int count;
 	private TreeNode<K, V> root;
@@ -23,134 +48,157 @@ public class BinarySearchTree<K, V> implements IBinarySearchTree<K, V> {
 	}
 	
 
+	/**
+	 * Builds a balanced tree with the pairs keys[i], values[i] in O(n) when
+	 * the keys are already sorted, or O(n log n) when they have to be sorted
+	 * first. As with insert, only the first value of a repeated key is kept.
+	 */
+	public static <K, V> BinarySearchTree<K, V> fromSorted(Comparator<K> _keyComparator, K[] keys, V[] values) {
+		BinarySearchTree<K, V> tree = new BinarySearchTree<K, V>(_keyComparator);
+		tree.insertAll(keys, values);
+		return tree;
+	}
+	
+	/**
+	 * Inserts all the pairs keys[i], values[i] at once. The new pairs are
+	 * sorted if needed and merged in order with the nodes of the tree, then
+	 * the whole tree is rebuilt balanced, in O(n + m) for m sorted pairs
+	 * instead of m inserts of O(height) each. Keys that are already in the
+	 * tree keep their value, as with insert.
+	 */
+	public void insertAll(K[] keys, V[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("There must be a value for each key");
+		}
+		
+		TreeNode<K, V>[] newNodes = sortedNodes(keys, values);
+		
+		//The nodes of the tree in order, taken with the in order iterator
+		TreeNode<K, V>[] oldNodes = newNodeArray(count);
+		TreeNode<K, V> actual = firstNode(root, IN_ORDER);
+		for (int i = 0; i < count; i++) {
+			oldNodes[i] = actual;
+			actual = nextNode(actual, IN_ORDER);
+		}
+		
+		//Merge both sorted arrays, on equal keys the node of the tree stays
+		TreeNode<K, V>[] merged = newNodeArray(oldNodes.length + newNodes.length);
+		int total = 0;
+		int i = 0;
+		int j = 0;
+		while ((i < oldNodes.length) || (j < newNodes.length)) {
+			if (j == newNodes.length) {
+				merged[total++] = oldNodes[i++];
+			} else if (i == oldNodes.length) {
+				merged[total++] = newNodes[j++];
+			} else {
+				int result = keyComparator.compare(oldNodes[i].getId(), newNodes[j].getId());
+				if (result < 0) {
+					merged[total++] = oldNodes[i++];
+				} else if (result > 0) {
+					merged[total++] = newNodes[j++];
+				} else {
+					merged[total++] = oldNodes[i++];
+					j++;
+				}
+			}
+		}
+		
+		root = buildBalanced(merged, 0, total - 1, null);
+		count = total;
+	}
+	
 	@Override
 	public void insert(K id, V value) {
 		
 		if (isEmpty()) {
 			root = new TreeNode<K, V>(id, value);
 			count++;
-		} else {
-			internalInsert(root, id, value);
+			return;
+		}
+		
+		TreeNode<K, V> actual = root;
+		while (true) {
+			int result = keyComparator.compare(actual.getId(), id);
+			
+			if (result > 0) { //actual id is greater than new id then search in the left side
+				if (actual.getLeft() == null) { //Doesn't have left children
+					TreeNode<K, V> newNode = new TreeNode<K, V>(id, value);
+					actual.setLeft(newNode);
+					newNode.setParent(actual);
+					updateSizesFrom(actual);
+					count++;
+					return;
+				}
+				actual = actual.getLeft();
+			} else if (result < 0) { //actual id is smaller than the new then search in the right
+				if (actual.getRight() == null) { //Doesn't have right children
+					TreeNode<K, V> newNode = new TreeNode<K, V>(id, value);
+					actual.setRight(newNode);
+					newNode.setParent(actual);
+					updateSizesFrom(actual);
+					count++;
+					return;
+				}
+				actual = actual.getRight();
+			} else { //The id is already in the tree
+				return;
+			}
 		}
 	}
 
 	@Override
 	public V delete(K id) {
-		if (!isEmpty()) {
-			int result = keyComparator.compare(root.getId(), id);
+		TreeNode<K, V> actual = internalFind(id);
+		
+		if (actual == null) {
+			return null;
+		}
+		
+		V tempValue = actual.getValue();
+		TreeNode<K, V> changed; //lowest node whose subtree lost a node
+		
+		if ((actual.getLeft() != null) && (actual.getRight() != null)) { //Two children, the successor takes its place
 			
-			if (result > 0) {
-				return internalDelete(root.getLeft(), id, true);
-			} else if (result < 0) {
-				return internalDelete(root.getRight(), id, false);
-			} else { //Root is the deleted node
-				
-				if (count() == 1) {
-					
-					V temp = root.getValue();
-					root = null;
-					count--;
-					return temp;
-					
-				} else {
-					
-					V tempValue = root.getValue();
-					
-					if (root.getRight() != null) { //Buscar hijo derecho mas izquierdo
-							
-						TreeNode<K, V> leftOfTheRights = root.getRight();
-						
-						while(leftOfTheRights.getLeft() != null) {
-							leftOfTheRights = leftOfTheRights.getLeft(); 
-						}
-						
-						//Assigning the left side
-						leftOfTheRights.setLeft(root.getLeft());
-						if (leftOfTheRights.getLeft() != null)
-							leftOfTheRights.getLeft().setParent(leftOfTheRights);
-						
-						//Assiginig the right side
-						if (keyComparator.compare(root.getRight().getId(), leftOfTheRights.getId()) != 0) { //Only if the leftOfTheRights is different than root.right
-							leftOfTheRights.getParent().setLeft(null);
-							
-							TreeNode<K, V> newRootRight = leftOfTheRights;
-							
-							while (newRootRight.getRight() != null) {
-								newRootRight = newRootRight.getRight();
-							}
-							
-							newRootRight.setRight(root.getRight());
-							if (newRootRight.getRight() != null) {
-								newRootRight.getRight().setParent(newRootRight);;
-							}
-							
-						}
-						
-						//Assginig the new parents
-						if (leftOfTheRights.getRight() != null)
-							leftOfTheRights.getRight().setParent(leftOfTheRights);
-						
-						leftOfTheRights.setParent(null);
-						root = leftOfTheRights;
-						
-						count--;
-						return tempValue;
-						
-					} else { //Buscar hijo izquierdo mas derecho
-						
-						TreeNode<K, V> rightOfTheLefts = root.getLeft();
-						
-						while(rightOfTheLefts.getRight() != null) {
-							rightOfTheLefts = rightOfTheLefts.getRight(); 
-						}
-						
-						//Assigning the right side
-						rightOfTheLefts.setRight(root.getRight());
-						if (rightOfTheLefts.getRight() != null)
-							rightOfTheLefts.getRight().setParent(rightOfTheLefts);
-						
-						//Assiginig the left side
-						if (keyComparator.compare(root.getLeft().getId(), rightOfTheLefts.getId()) != 0) { //Only if the rightOfTheLefts is different than root.left
-							rightOfTheLefts.getParent().setRight(null);
-							
-							TreeNode<K, V> newRootLeft = rightOfTheLefts;
-							
-							while (newRootLeft.getLeft() != null) {
-								newRootLeft = newRootLeft.getLeft();
-							}
-							
-							newRootLeft.setLeft(root.getLeft());
-							if (newRootLeft.getLeft() != null) {
-								newRootLeft.getLeft().setParent(newRootLeft);;
-							}
-							
-						}
-						
-						//Assginig the new parentes
-						if (rightOfTheLefts.getLeft() != null)
-							rightOfTheLefts.getLeft().setParent(rightOfTheLefts);
-						
-						rightOfTheLefts.setParent(null);
-						root = rightOfTheLefts;
-						
-						count--;
-						return tempValue;
-						
-						
-					}
-					
-					
-				}
-				
+			TreeNode<K, V> leftOfTheRights = actual.getRight();
+			while (leftOfTheRights.getLeft() != null) {
+				leftOfTheRights = leftOfTheRights.getLeft();
+			}
+			
+			changed = leftOfTheRights;
+			if (leftOfTheRights.getParent() != actual) {
+				changed = leftOfTheRights.getParent();
+				//Its right child takes its place, then it takes the right side of actual
+				replaceNode(leftOfTheRights, leftOfTheRights.getRight());
+				leftOfTheRights.setRight(actual.getRight());
+				leftOfTheRights.getRight().setParent(leftOfTheRights);
 			}
+			
+			replaceNode(actual, leftOfTheRights);
+			leftOfTheRights.setLeft(actual.getLeft());
+			leftOfTheRights.getLeft().setParent(leftOfTheRights);
+			
+		} else if (actual.getLeft() != null) {
+			changed = actual.getParent();
+			replaceNode(actual, actual.getLeft());
+		} else { //Only the right child or a leaf
+			changed = actual.getParent();
+			replaceNode(actual, actual.getRight());
 		}
 		
-		return null;
+		updateSizesFrom(changed);
+		actual.setParent(null);
+		actual.setLeft(null);
+		actual.setRight(null);
+		actual.setSize(1);
+		count--;
+		return tempValue;
 	}
 
 	@Override
 	public V find(K id) {
-		return internalFind(root, id);
+		TreeNode<K, V> actual = internalFind(id);
+		return (actual != null) ? actual.getValue() : null;
 	}
 
 	@Override
@@ -165,247 +213,495 @@ public class BinarySearchTree<K, V> implements IBinarySearchTree<K, V> {
 
 	@Override
 	public ArrayList<V> getElements() {
-		ArrayList<V> list = new ArrayList<V>();
+		ArrayList<V> list = new ArrayList<V>(count);
 		
-		internalGetElements(list, root);
+		walk(IN_ORDER, list::add);
 		
 		return list;
 	}
 
 	@Override
 	public void inOrder(ITreeTraversal<V> traversal) {
-		internalInOrder(root, traversal);
+		walk(IN_ORDER, traversal);
 	}
 
 	@Override
 	public void preOrder(ITreeTraversal<V> traversal) {
-		internalPreOrder(root, traversal);
-		
+		walk(PRE_ORDER, traversal);
 	}
 
 	@Override
 	public void postOrder(ITreeTraversal<V> traversal) {
-		internalPostOrder(root, traversal);
+		walk(POST_ORDER, traversal);
 	}
-	
 
-	private void internalInsert(TreeNode<K, V> actual, K id, V value) {
+	/**
+	 * Values in order of their ids, same as inOrderIterator().
+	 */
+	@Override
+	public Iterator<V> iterator() {
+		return inOrderIterator();
+	}
+	
+	public Iterator<V> inOrderIterator() {
+		return new TreeIterator(IN_ORDER);
+	}
+	
+	public Iterator<V> preOrderIterator() {
+		return new TreeIterator(PRE_ORDER);
+	}
+	
+	public Iterator<V> postOrderIterator() {
+		return new TreeIterator(POST_ORDER);
+	}
+	
+	/**
+	 * Spliterator over the values in order. It splits by position using the
+	 * subtree sizes, so each part knows exactly how many values it has.
+	 */
+	@Override
+	public Spliterator<V> spliterator() {
+		return new TreeSpliterator(0, count);
+	}
+	
+	/**
+	 * Sequential stream over the values in order.
+	 */
+	public Stream<V> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+	
+	/**
+	 * Parallel stream over the values in order.
+	 */
+	public Stream<V> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+	
+	@Override
+	public void range(K from, K to, ITreeTraversal<V> traversal) {
+		TreeNode<K, V> actual = ceilingNode(from);
 		
-		int result = keyComparator.compare(actual.getId(), id);
+		while ((actual != null) && (keyComparator.compare(actual.getId(), to) <= 0)) {
+			traversal.Walk(actual.getValue());
+			actual = nextNode(actual, IN_ORDER);
+		}
+	}
+
+	@Override
+	public K floor(K id) {
+		TreeNode<K, V> actual = root;
+		TreeNode<K, V> candidate = null;
 		
-		if (result > 0) { //actual id is greater than new id then search in the left side
+		while (actual != null) {
+			int result = keyComparator.compare(actual.getId(), id);
 			
-			if (actual.getLeft() == null) { //Doesn't have left children
-				TreeNode<K, V> newNode = new TreeNode<K, V>(id, value);
-				actual.setLeft(newNode);
-				newNode.setParent(actual);
-				count++;
+			if (result > 0) {
+				actual = actual.getLeft();
+			} else if (result < 0) { //actual is a candidate, a closer one may be on the right
+				candidate = actual;
+				actual = actual.getRight();
 			} else {
-				internalInsert(actual.getLeft(), id, value);
+				return actual.getId();
 			}
+		}
+		
+		return (candidate != null) ? candidate.getId() : null;
+	}
+
+	@Override
+	public K ceiling(K id) {
+		TreeNode<K, V> actual = ceilingNode(id);
+		return (actual != null) ? actual.getId() : null;
+	}
+
+	@Override
+	public int rank(K id) {
+		TreeNode<K, V> actual = root;
+		int rank = 0;
+		
+		while (actual != null) {
+			int result = keyComparator.compare(actual.getId(), id);
 			
-		} else if (result < 0) { //actual id is smaller than the new then search in the right
-			if (actual.getRight() == null) { //Doesn't have left children
-				TreeNode<K, V> newNode = new TreeNode<K, V>(id, value);
-				actual.setRight(newNode);
-				newNode.setParent(actual);
-				count++;
+			if (result > 0) {
+				actual = actual.getLeft();
+			} else if (result < 0) { //actual and its left side are smaller than id
+				rank += sizeOf(actual.getLeft()) + 1;
+				actual = actual.getRight();
 			} else {
-				internalInsert(actual.getRight(), id, value);
+				return rank + sizeOf(actual.getLeft());
 			}
 		}
 		
+		return rank;
+	}
+
+	@Override
+	public K select(int index) {
+		if ((index < 0) || (index >= count)) {
+			return null;
+		}
+		
+		return nodeAt(index).getId();
 	}
 	
-	private void internalInOrder(TreeNode<K, V> actual, ITreeTraversal<V> traversal) {
-		if (actual != null) {
-			internalInOrder(actual.getLeft(), traversal);
+	/**
+	 * Visits every node without recursion and without a stack. The previous
+	 * node tells where the walk comes from: from the parent the node is seen
+	 * for the first time (pre order), from the left child for the second time
+	 * (in order) and from the right child for the last time (post order).
+	 */
+	private void walk(int order, ITreeTraversal<V> traversal) {
+		TreeNode<K, V> previous = null;
+		TreeNode<K, V> actual = root;
+		
+		while (actual != null) {
+			TreeNode<K, V> next;
 			
-			traversal.Walk(actual.getValue());
+			if (previous == actual.getParent()) { //Coming down from the parent
+				if (order == PRE_ORDER) {
+					traversal.Walk(actual.getValue());
+				}
+				if (actual.getLeft() != null) {
+					next = actual.getLeft();
+				} else {
+					if (order == IN_ORDER) {
+						traversal.Walk(actual.getValue());
+					}
+					if (actual.getRight() != null) {
+						next = actual.getRight();
+					} else {
+						if (order == POST_ORDER) {
+							traversal.Walk(actual.getValue());
+						}
+						next = actual.getParent();
+					}
+				}
+			} else if (previous == actual.getLeft()) { //Coming back from the left side
+				if (order == IN_ORDER) {
+					traversal.Walk(actual.getValue());
+				}
+				if (actual.getRight() != null) {
+					next = actual.getRight();
+				} else {
+					if (order == POST_ORDER) {
+						traversal.Walk(actual.getValue());
+					}
+					next = actual.getParent();
+				}
+			} else { //Coming back from the right side
+				if (order == POST_ORDER) {
+					traversal.Walk(actual.getValue());
+				}
+				next = actual.getParent();
+			}
 			
-			internalInOrder(actual.getRight(), traversal);
+			previous = actual;
+			actual = next;
 		}
 	}
 	
-	private void internalPreOrder(TreeNode<K, V> actual, ITreeTraversal<V> traversal) {
-		if (actual != null) {
-			traversal.Walk(actual.getValue());
-			
-			internalPreOrder(actual.getLeft(), traversal);
+	private TreeNode<K, V> internalFind(K id) {
+		TreeNode<K, V> actual = root;
+		
+		while (actual != null) {
+			int result = keyComparator.compare(actual.getId(), id);
 			
-			internalPreOrder(actual.getRight(), traversal);
+			if (result > 0) {
+				actual = actual.getLeft();
+			} else if (result < 0) {
+				actual = actual.getRight();
+			} else {
+				return actual;
+			}
 		}
+		
+		return null;
 	}
 	
-	private void internalPostOrder(TreeNode<K, V> actual, ITreeTraversal<V> traversal) {
-		if (actual != null) {
+	/**
+	 * Creates a node for each pair, sorted by key and without repeated keys.
+	 * The sort is stable, so the first value of a repeated key is kept.
+	 */
+	private TreeNode<K, V>[] sortedNodes(K[] keys, V[] values) {
+		TreeNode<K, V>[] nodes = newNodeArray(keys.length);
+		boolean sorted = true;
+		for (int i = 0; i < keys.length; i++) {
+			nodes[i] = new TreeNode<K, V>(keys[i], values[i]);
+			if ((i > 0) && (keyComparator.compare(keys[i - 1], keys[i]) > 0)) {
+				sorted = false;
+			}
+		}
 		
-			internalPostOrder(actual.getLeft(), traversal);
-			
-			internalPostOrder(actual.getRight(), traversal);
-			
-			traversal.Walk(actual.getValue());
+		if (!sorted) {
+			Arrays.sort(nodes, (a, b) -> keyComparator.compare(a.getId(), b.getId()));
 		}
+		
+		int unique = 0;
+		for (int i = 0; i < nodes.length; i++) {
+			if ((unique == 0) || (keyComparator.compare(nodes[unique - 1].getId(), nodes[i].getId()) != 0)) {
+				nodes[unique++] = nodes[i];
+			}
+		}
+		return (unique == nodes.length) ? nodes : Arrays.copyOf(nodes, unique);
 	}
 	
-	private V internalFind(TreeNode<K, V> actual, K id) {
-		if (actual != null) {
-			int result = keyComparator.compare(actual.getId(), id);
+	/**
+	 * Links the sorted nodes from first to last as a balanced subtree: the
+	 * middle one is the root and each half is built the same way. Returns the
+	 * root of the subtree, null when it is empty.
+	 */
+	private TreeNode<K, V> buildBalanced(TreeNode<K, V>[] nodes, int first, int last, TreeNode<K, V> parent) {
+		if (first > last) {
+			return null;
+		}
+		
+		int middle = (first + last) >>> 1;
+		TreeNode<K, V> actual = nodes[middle];
+		actual.setParent(parent);
+		actual.setLeft(buildBalanced(nodes, first, middle - 1, actual));
+		actual.setRight(buildBalanced(nodes, middle + 1, last, actual));
+		actual.setSize(last - first + 1);
+		return actual;
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <K, V> TreeNode<K, V>[] newNodeArray(int length) {
+		return (TreeNode<K, V>[]) new TreeNode[length];
+	}
+	
+	/**
+	 * Node at the given position in order, 0 <= index < count.
+	 */
+	private TreeNode<K, V> nodeAt(int index) {
+		TreeNode<K, V> actual = root;
+		while (true) {
+			int leftSize = sizeOf(actual.getLeft());
 			
-			if (result > 0) {
-				return internalFind(actual.getLeft(), id);
-			} else if (result < 0) {
-				return internalFind(actual.getRight(), id);
+			if (index < leftSize) {
+				actual = actual.getLeft();
+			} else if (index > leftSize) {
+				index -= leftSize + 1;
+				actual = actual.getRight();
 			} else {
-				return actual.getValue();
+				return actual;
 			}
-			
+		}
+	}
+	
+	/**
+	 * First node of the subtree in pre order is its root, in order the
+	 * leftmost node and in post order the first leaf reached going left
+	 * whenever possible.
+	 */
+	private static <K, V> TreeNode<K, V> firstNode(TreeNode<K, V> actual, int order) {
+		if ((actual == null) || (order == PRE_ORDER)) {
+			return actual;
+		}
+		
+		while (true) {
+			if (actual.getLeft() != null) {
+				actual = actual.getLeft();
+			} else if ((order == POST_ORDER) && (actual.getRight() != null)) {
+				actual = actual.getRight();
+			} else {
+				return actual;
+			}
+		}
+	}
+	
+	/**
+	 * Node visited after actual in the given order, or null after the last.
+	 */
+	private static <K, V> TreeNode<K, V> nextNode(TreeNode<K, V> actual, int order) {
+		if (order == IN_ORDER) {
+			if (actual.getRight() != null) {
+				return firstNode(actual.getRight(), IN_ORDER);
+			}
+			TreeNode<K, V> parent = actual.getParent();
+			while ((parent != null) && (parent.getRight() == actual)) {
+				actual = parent;
+				parent = parent.getParent();
+			}
+			return parent;
+		} else if (order == PRE_ORDER) {
+			if (actual.getLeft() != null) {
+				return actual.getLeft();
+			}
+			if (actual.getRight() != null) {
+				return actual.getRight();
+			}
+			//Climb until a node whose right side was not visited yet
+			TreeNode<K, V> parent = actual.getParent();
+			while ((parent != null) && ((parent.getRight() == actual) || (parent.getRight() == null))) {
+				actual = parent;
+				parent = parent.getParent();
+			}
+			return (parent != null) ? parent.getRight() : null;
 		} else {
-			return null;
+			TreeNode<K, V> parent = actual.getParent();
+			if ((parent != null) && (parent.getLeft() == actual) && (parent.getRight() != null)) {
+				return firstNode(parent.getRight(), POST_ORDER);
+			}
+			return parent;
 		}
 	}
 	
-	private void internalGetElements(ArrayList<V> list, TreeNode<K, V> actual) {
-		if (actual != null) {
-			internalGetElements(list, actual.getLeft());
-			
-			list.add(actual.getValue());
-			
-			internalGetElements(list, actual.getRight());
+	/**
+	 * Lazy iterator that keeps only the next node to visit.
+	 */
+	private class TreeIterator implements Iterator<V> {
+		
+		private final int order;
+		private TreeNode<K, V> next;
+		
+		TreeIterator(int order) {
+			this.order = order;
+			this.next = firstNode(root, order);
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+		
+		@Override
+		public V next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			TreeNode<K, V> actual = next;
+			next = nextNode(actual, order);
+			return actual.getValue();
+		}
+	}
+	
+	/**
+	 * Spliterator over the positions from (included) to fence (excluded) in
+	 * order. The first node is found with the subtree sizes when the walk
+	 * starts, then it moves to the successor of each node.
+	 */
+	private class TreeSpliterator implements Spliterator<V> {
+		
+		private int from;
+		private final int fence;
+		private TreeNode<K, V> actual; //node at position from, null until the walk starts
+		
+		TreeSpliterator(int from, int fence) {
+			this.from = from;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super V> action) {
+			if (from >= fence) {
+				return false;
+			}
+			if (actual == null) {
+				actual = nodeAt(from);
+			}
+			action.accept(actual.getValue());
+			from++;
+			actual = (from < fence) ? nextNode(actual, IN_ORDER) : null;
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super V> action) {
+			if (from >= fence) {
+				return;
+			}
+			TreeNode<K, V> node = (actual != null) ? actual : nodeAt(from);
+			for (int i = from; i < fence; i++) {
+				action.accept(node.getValue());
+				if (i + 1 < fence) {
+					node = nextNode(node, IN_ORDER);
+				}
+			}
+			from = fence;
+			actual = null;
+		}
+		
+		/**
+		 * Gives away the first half of the remaining positions.
+		 */
+		@Override
+		public Spliterator<V> trySplit() {
+			if ((actual != null) || (fence - from < 2)) { //already walking or too small
+				return null;
+			}
+			int middle = (from + fence) >>> 1;
+			TreeSpliterator prefix = new TreeSpliterator(from, middle);
+			from = middle;
+			return prefix;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence - from;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
 		}
 	}
 	
-	private V internalDelete(TreeNode<K, V> actual, K id, boolean isLeft) {
-		if (actual != null) {
+	/**
+	 * Node with the smallest id greater than or equal to id, or null.
+	 */
+	private TreeNode<K, V> ceilingNode(K id) {
+		TreeNode<K, V> actual = root;
+		TreeNode<K, V> candidate = null;
+		
+		while (actual != null) {
 			int result = keyComparator.compare(actual.getId(), id);
 			
-			if (result > 0) { //search in the left side
-				return internalDelete(actual.getLeft(), id, true);
-			} else if (result < 0) {//search in the right side
-				return internalDelete(actual.getRight(), id, false);
-			} else { //actual is the node to be deleted
-				
-				//The actual node is a leaft
-				if ( (actual.getLeft() == null) && (actual.getRight() == null) ) { // If is a leaft
-					V tempValue = actual.getValue();
-					if (isLeft) {
-						actual.getParent().setLeft(null);
-						actual.setParent(null);
-					} else {
-						actual.getParent().setRight(null);
-						actual.setParent(null);
-					}
-					count--;
-					return tempValue;
-				} else { //Is intermediate node
-				
-					V tempValue = actual.getValue();
-					
-					if (actual.getRight() != null) { //Buscar hijo derecho mas izquierdo
-						
-						TreeNode<K, V> leftOfTheRights = actual.getRight();
-						
-						while(leftOfTheRights.getLeft() != null) {
-							leftOfTheRights = leftOfTheRights.getLeft(); 
-						}
-						
-						//Assigning the left side
-						leftOfTheRights.setLeft(actual.getLeft());
-						if (leftOfTheRights.getLeft() != null)
-							leftOfTheRights.getLeft().setParent(leftOfTheRights);
-						
-						//Assiginig the right side
-						if (keyComparator.compare(actual.getRight().getId(), leftOfTheRights.getId()) != 0) { //Only if the leftOfTheRights is different than root.right
-							leftOfTheRights.getParent().setLeft(null);
-							
-							TreeNode<K, V> newRootRight = leftOfTheRights;
-							
-							while (newRootRight.getRight() != null) {
-								newRootRight = newRootRight.getRight();
-							}
-							
-							newRootRight.setRight(actual.getRight());
-							if (newRootRight.getRight() != null) {
-								newRootRight.getRight().setParent(newRootRight);;
-							}
-							
-						}
-						
-						//Assginig the new parentes
-						if (leftOfTheRights.getRight() != null)
-							leftOfTheRights.getRight().setParent(leftOfTheRights);
-						
-						//Assigning new son to the parent
-						leftOfTheRights.setParent(actual.getParent());
-						if (isLeft) {
-							leftOfTheRights.getParent().setLeft(leftOfTheRights);
-						} else {
-							leftOfTheRights.getParent().setRight(leftOfTheRights);
-						}
-						
-						count--;
-						return tempValue;
-						
-					} else { //Buscar hijo izquierdo mas derecho
-						
-						TreeNode<K, V> rightOfTheLefts = actual.getLeft();
-						
-						while(rightOfTheLefts.getRight() != null) {
-							rightOfTheLefts = rightOfTheLefts.getRight(); 
-						}
-						
-						//Assigning the right side
-						rightOfTheLefts.setRight(actual.getRight());
-						if (rightOfTheLefts.getRight() != null)
-							rightOfTheLefts.getRight().setParent(rightOfTheLefts);
-						
-						//Assiginig the left side
-						if (keyComparator.compare(actual.getLeft().getId(), rightOfTheLefts.getId()) != 0) { //Only if the rightOfTheLefts is different than root.left
-							rightOfTheLefts.getParent().setRight(null);
-							
-							TreeNode<K, V> newRootLeft = rightOfTheLefts;
-							
-							while (newRootLeft.getLeft() != null) {
-								newRootLeft = newRootLeft.getLeft();
-							}
-							
-							newRootLeft.setLeft(actual.getLeft());
-							if (newRootLeft.getLeft() != null) {
-								newRootLeft.getLeft().setParent(newRootLeft);;
-							}
-							
-						}
-						
-						//Assginig the new parentes
-						if (rightOfTheLefts.getLeft() != null)
-							rightOfTheLefts.getLeft().setParent(rightOfTheLefts);
-						
-						rightOfTheLefts.setParent(actual.getParent());
-						if (isLeft) {
-							rightOfTheLefts.getParent().setLeft(rightOfTheLefts);
-						} else {
-							rightOfTheLefts.getParent().setRight(rightOfTheLefts);
-						}
-						
-						count--;
-						return tempValue;
-						
-						
-					}
-					
-					
-					
-					
-					
-					
-					
-					
-				}
-				
+			if (result > 0) { //actual is a candidate, a closer one may be on the left
+				candidate = actual;
+				actual = actual.getLeft();
+			} else if (result < 0) {
+				actual = actual.getRight();
+			} else {
+				return actual;
 			}
-			 
+		}
+		
+		return candidate;
+	}
+	
+	private static int sizeOf(TreeNode<?, ?> actual) {
+		return (actual == null) ? 0 : actual.getSize();
+	}
+	
+	/**
+	 * Recomputes the subtree sizes from the node up to the root, after a
+	 * node was added or removed below it.
+	 */
+	private void updateSizesFrom(TreeNode<K, V> actual) {
+		while (actual != null) {
+			actual.setSize(1 + sizeOf(actual.getLeft()) + sizeOf(actual.getRight()));
+			actual = actual.getParent();
+		}
+	}
+	
+	/**
+	 * Puts replacement (that can be null) in the place that actual has in its
+	 * parent, or as the root.
+	 */
+	private void replaceNode(TreeNode<K, V> actual, TreeNode<K, V> replacement) {
+		TreeNode<K, V> parent = actual.getParent();
+		
+		if (parent == null) {
+			root = replacement;
+		} else if (parent.getLeft() == actual) {
+			parent.setLeft(replacement);
 		} else {
-			return null;
+			parent.setRight(replacement);
+		}
+		
+		if (replacement != null) {
+			replacement.setParent(parent);
 		}
 	}
 
@@ -0,0 +1,83 @@
+/**
+ *
+ */
+package edu.uvg.structures;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread safe stack without locks (Treiber stack). The top is an atomic
+ * reference that push and pull replace with compareAndSet, retrying when
+ * another thread changed it first, so no thread ever waits for another one
+ * to leave a synchronized block.
+ *
+ * Each node is immutable and stores the size of the stack below and
+ * including it, so count() reads a consistent value in O(1) without a
+ * shared counter that every thread would have to update.
+ *
+ * @author MAAG
+ *
+ */
+public class ConcurrentStack<T> implements IStack<T> {
+
+	private final AtomicReference<StackNode<T>> top = new AtomicReference<StackNode<T>>();
+
+	@Override
+	public int count() {
+		StackNode<T> current = top.get();
+		return (current == null) ? 0 : current.count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return top.get() == null;
+	}
+
+	@Override
+	public void push(T value) {
+		StackNode<T> current;
+		StackNode<T> newNode;
+		do {
+			current = top.get();
+			newNode = new StackNode<T>(value, current);
+		} while (!top.compareAndSet(current, newNode));
+	}
+
+	/**
+	 * Removes and returns the top of the stack, or null when it is empty.
+	 */
+	@Override
+	public T pull() {
+		StackNode<T> current;
+		do {
+			current = top.get();
+			if (current == null) {
+				return null;
+			}
+		} while (!top.compareAndSet(current, current.next));
+		return current.value;
+	}
+
+	/**
+	 * Returns the top of the stack, or null when it is empty.
+	 */
+	@Override
+	public T peek() {
+		StackNode<T> current = top.get();
+		return (current == null) ? null : current.value;
+	}
+
+	private static final class StackNode<T> {
+
+		private final T value;
+		private final StackNode<T> next;
+		private final int count;
+
+		StackNode(T value, StackNode<T> next) {
+			this.value = value;
+			this.next = next;
+			this.count = (next == null) ? 1 : next.count + 1;
+		}
+	}
+
+}
@@ -3,6 +3,8 @@
  */
 package edu.uvg.structures;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * @author MAAG
@@ -108,8 +110,36 @@ public class DoubleLinkedList<T> implements IList<T> {
 
 	@Override
 	public T Delete(int index) {
-		// TODO Auto-generated method stub
-		return null;
+		
+		if (index == 0)
+		{
+			return DeleteAtStart();
+		}
+		else if (index == (Count() - 1))
+		{
+			return DeleteAtEnd();
+		}
+		else if ((index > 0) && (index < (Count() - 1)))
+		{
+			DoubleNode<T> temp = start;
+			int i = 0;
+
+			//Search the node to delete
+			while (i < index) {
+				temp = temp.getNext();
+				i++;
+			}
+
+			//Link the neighbours of the node
+			temp.getPrevious().setNext(temp.getNext());
+			temp.getNext().setPrevious(temp.getPrevious());
+			count--;
+			return temp.getValue();
+		}
+		else
+		{
+			return null;
+		}
 	}
 
 	@Override
@@ -140,8 +170,24 @@ public class DoubleLinkedList<T> implements IList<T> {
 
 	@Override
 	public T DeleteAtEnd() {
-		// TODO Auto-generated method stub
-		return null;
+		if (!IsEmpty()) {
+			
+			DoubleNode<T> temp = end;
+			if (Count() == 1) {
+				start = null;
+				end = null;
+			} else {
+				//The list is circular, the previous node becomes the new end
+				end = temp.getPrevious();
+				end.setNext(start);
+				start.setPrevious(end);
+			}
+			count--;
+			return temp.getValue();
+			
+		} else {
+			return null;
+		}
 	}
 
 	@Override
@@ -196,4 +242,28 @@ public class DoubleLinkedList<T> implements IList<T> {
 	}
 
 	
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private DoubleNode<T> next = start;
+			private int remaining = count; //The list is circular, stop after count nodes
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public T next() {
+				if (remaining == 0) {
+					throw new NoSuchElementException();
+				}
+				T value = next.getValue();
+				next = next.getNext();
+				remaining--;
+				return value;
+			}
+		};
+	}
+	
 }
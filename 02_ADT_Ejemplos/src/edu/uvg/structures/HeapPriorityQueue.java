@@ -0,0 +1,260 @@
+/**
+ *
+ */
+package edu.uvg.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Priority queue stored as an implicit d-ary heap in an array: the children
+ * of the entry at position i are at d*i+1 .. d*i+d and its parent at
+ * (i-1)/d, so no node objects or sibling lists are needed. As in
+ * PriorityQueueBinaryTree, the entry with the greatest priority according to
+ * the comparator is at the top; use a reversed comparator to get the
+ * smallest one first.
+ *
+ * insert and remove are O(d log_d n). With d = 4 the tree is half as deep as
+ * a binary heap and the children of a node are next to each other in the
+ * array, which usually makes it faster when there are many inserts.
+ *
+ * add returns the Entry of the value, a handle that changePriority and
+ * remove(Entry) use to update or delete that value in O(d log_d n), as
+ * decrease-key in Dijkstra or Prim needs.
+ *
+ * @author MAAG
+ *
+ */
+public class HeapPriorityQueue<K, V> implements IPriorityQueue<K, V> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Comparator<? super K> internalComparador;
+	private final int arity;
+	private Entry<K, V>[] heap;
+	private int count;
+
+	public HeapPriorityQueue(Comparator<? super K> _comparator) {
+		this(_comparator, 2);
+	}
+
+	/**
+	 * @param _arity children per node, usually 2 or 4
+	 */
+	public HeapPriorityQueue(Comparator<? super K> _comparator, int _arity) {
+		if (_arity < 2) {
+			throw new IllegalArgumentException("The arity must be at least 2: " + _arity);
+		}
+		internalComparador = _comparator;
+		arity = _arity;
+		heap = newArray(DEFAULT_CAPACITY);
+		count = 0;
+	}
+
+	/**
+	 * Builds the heap with all the pairs priorities[i], values[i] at once in
+	 * O(n), sifting down the internal nodes from the last one to the root
+	 * instead of inserting them one by one.
+	 */
+	public HeapPriorityQueue(Comparator<? super K> _comparator, int _arity, K[] priorities, V[] values) {
+		this(_comparator, _arity);
+		if (priorities.length != values.length) {
+			throw new IllegalArgumentException("There must be a value for each priority");
+		}
+		heap = newArray(Math.max(priorities.length, DEFAULT_CAPACITY));
+		for (int i = 0; i < priorities.length; i++) {
+			heap[i] = new Entry<K, V>(priorities[i], values[i], i);
+		}
+		count = priorities.length;
+		int lastParent = (count > 1) ? (count - 2) / arity : -1;
+		for (int i = lastParent; i >= 0; i--) {
+			siftDown(heap[i], i);
+		}
+	}
+
+	@Override
+	public void insert(K priority, V value) {
+		add(priority, value);
+	}
+
+	/**
+	 * Inserts the value and returns its handle.
+	 */
+	public Entry<K, V> add(K priority, V value) {
+		if (count == heap.length) {
+			heap = Arrays.copyOf(heap, heap.length << 1);
+		}
+		Entry<K, V> entry = new Entry<K, V>(priority, value, count);
+		count++;
+		siftUp(entry, count - 1);
+		return entry;
+	}
+
+	@Override
+	public V get() {
+		return isEmpty() ? null : heap[0].value;
+	}
+
+	/**
+	 * Returns the handle of the top of the queue, or null when it is empty.
+	 */
+	public Entry<K, V> peekEntry() {
+		return isEmpty() ? null : heap[0];
+	}
+
+	/**
+	 * Removes and returns the value with the greatest priority, or null when
+	 * the queue is empty.
+	 */
+	@Override
+	public V remove() {
+		if (isEmpty()) {
+			return null;
+		}
+		Entry<K, V> top = heap[0];
+		removeAt(0);
+		return top.value;
+	}
+
+	/**
+	 * Removes the entry from the queue wherever it is.
+	 *
+	 * @throws IllegalArgumentException if the entry is not in this queue
+	 */
+	public V remove(Entry<K, V> entry) {
+		removeAt(positionOf(entry));
+		return entry.value;
+	}
+
+	/**
+	 * Changes the priority of an entry that is in the queue and moves it up or
+	 * down to its new place. With a reversed comparator, lowering the priority
+	 * of a value is the decrease-key operation.
+	 *
+	 * @throws IllegalArgumentException if the entry is not in this queue
+	 */
+	public void changePriority(Entry<K, V> entry, K newPriority) {
+		int position = positionOf(entry);
+		int result = internalComparador.compare(newPriority, entry.priority);
+		entry.priority = newPriority;
+		if (result > 0) {
+			siftUp(entry, position);
+		} else if (result < 0) {
+			siftDown(entry, position);
+		}
+	}
+
+	@Override
+	public int count() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	private int positionOf(Entry<K, V> entry) {
+		int position = entry.position;
+		if ((position < 0) || (position >= count) || (heap[position] != entry)) {
+			throw new IllegalArgumentException("The entry is not in the queue");
+		}
+		return position;
+	}
+
+	/**
+	 * Replaces the entry at the position with the last one and restores the
+	 * heap from there.
+	 */
+	private void removeAt(int position) {
+		heap[position].position = -1;
+		count--;
+		Entry<K, V> last = heap[count];
+		heap[count] = null;
+		if (position < count) {
+			siftDown(last, position);
+			if (heap[position] == last) { //it did not go down, it may have to go up
+				siftUp(last, position);
+			}
+		}
+	}
+
+	/**
+	 * Moves the entry from the position towards the root while its priority
+	 * is greater than the one of its parent. The parents go down into the
+	 * hole instead of swapping at every level.
+	 */
+	private void siftUp(Entry<K, V> entry, int position) {
+		while (position > 0) {
+			int parent = (position - 1) / arity;
+			Entry<K, V> parentEntry = heap[parent];
+			if (internalComparador.compare(entry.priority, parentEntry.priority) <= 0) {
+				break;
+			}
+			heap[position] = parentEntry;
+			parentEntry.position = position;
+			position = parent;
+		}
+		heap[position] = entry;
+		entry.position = position;
+	}
+
+	/**
+	 * Moves the entry from the position towards the leaves while one of its
+	 * children has a greater priority.
+	 */
+	private void siftDown(Entry<K, V> entry, int position) {
+		while (true) {
+			int firstChild = arity * position + 1;
+			if (firstChild >= count) {
+				break;
+			}
+			int lastChild = Math.min(firstChild + arity, count);
+			int best = firstChild;
+			for (int child = firstChild + 1; child < lastChild; child++) {
+				if (internalComparador.compare(heap[child].priority, heap[best].priority) > 0) {
+					best = child;
+				}
+			}
+			if (internalComparador.compare(heap[best].priority, entry.priority) <= 0) {
+				break;
+			}
+			heap[position] = heap[best];
+			heap[position].position = position;
+			position = best;
+		}
+		heap[position] = entry;
+		entry.position = position;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <K, V> Entry<K, V>[] newArray(int length) {
+		return (Entry<K, V>[]) new Entry[length];
+	}
+
+	/**
+	 * A priority and its value inside the queue. It remembers its position in
+	 * the array so that it can be found in O(1).
+	 */
+	public static final class Entry<K, V> {
+
+		private K priority;
+		private final V value;
+		private int position; //-1 after it is removed
+
+		Entry(K priority, V value, int position) {
+			this.priority = priority;
+			this.value = value;
+			this.position = position;
+		}
+
+		public K getPriority() {
+			return priority;
+		}
+
+		public V getValue() {
+			return value;
+		}
+	}
+
+}
@@ -29,4 +29,33 @@ public interface IBinarySearchTree<K, V> {
 	
 	void postOrder(ITreeTraversal<V> traversal);
 	
+	/**
+	 * Walks in order the values whose ids are between from and to, both
+	 * included, in O(log n + k) for k values.
+	 */
+	void range(K from, K to, ITreeTraversal<V> traversal);
+	
+	/**
+	 * Greatest id in the tree that is less than or equal to id, or null.
+	 */
+	K floor(K id);
+	
+	/**
+	 * Smallest id in the tree that is greater than or equal to id, or null.
+	 */
+	K ceiling(K id);
+	
+	/**
+	 * Number of ids in the tree that are less than id.
+	 */
+	int rank(K id);
+	
+	/**
+	 * Id at the given position in order, 0 <= index < count(), or null when
+	 * the index is out of range. With rank it gives the page of a listing
+	 * without copying the tree, for example range(select(first),
+	 * select(last), traversal).
+	 */
+	K select(int index);
+	
 }
@@ -3,11 +3,18 @@
  */
 package edu.uvg.structures;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * @author MAAG
  *
  */
-public interface IList<T> {
+public interface IList<T> extends Iterable<T> {
 
     void InsertAtStart(T value);
 
@@ -26,4 +33,44 @@ public interface IList<T> {
     boolean IsEmpty();
     
     int Count();
+    
+    /**
+     * Iterator over the elements from the first to the last one. This default
+     * version calls Get(index) for each element; lists that can walk their
+     * nodes directly should override it.
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < Count();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return Get(index++);
+            }
+        };
+    }
+    
+    /**
+     * Spliterator over the elements that reports the exact size of the list.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), Count(), Spliterator.ORDERED);
+    }
+    
+    /**
+     * Sequential stream over the elements of the list.
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -0,0 +1,79 @@
+/**
+ *
+ */
+package edu.uvg.structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Stack of int values stored in a growable int[]. It has the same operations
+ * as IStack without boxing each value in an Integer, which is what evaluating
+ * postfix expressions or traversing graphs by vertex number needs.
+ *
+ * @author MAAG
+ *
+ */
+public class IntStack {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] elements;
+	private int count;
+
+	public IntStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntStack(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		elements = new int[Math.max(initialCapacity, 1)];
+		count = 0;
+	}
+
+	public int count() {
+		return count;
+	}
+
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	public void push(int value) {
+		if (count == elements.length) {
+			elements = Arrays.copyOf(elements, elements.length << 1);
+		}
+		elements[count++] = value;
+	}
+
+	/**
+	 * Removes and returns the top of the stack.
+	 *
+	 * @throws NoSuchElementException if the stack is empty
+	 */
+	public int pull() {
+		if (count == 0) {
+			throw new NoSuchElementException("The stack is empty");
+		}
+		return elements[--count];
+	}
+
+	/**
+	 * Returns the top of the stack without removing it.
+	 *
+	 * @throws NoSuchElementException if the stack is empty
+	 */
+	public int peek() {
+		if (count == 0) {
+			throw new NoSuchElementException("The stack is empty");
+		}
+		return elements[count - 1];
+	}
+
+	public void clear() {
+		count = 0;
+	}
+
+}
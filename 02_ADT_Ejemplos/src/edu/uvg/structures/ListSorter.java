@@ -0,0 +1,70 @@
+/**
+ * 
+ */
+package edu.uvg.structures;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts the lists of this package. Sorting an IList through Get(index) and
+ * Insert(value, index) costs O(n) per access on a linked list; instead the
+ * elements are copied once into an array, sorted there (in parallel for large
+ * lists) and only then moved back into the list, O(n log n) in total. If the
+ * comparator throws, the list is left as it was.
+ * 
+ * @author MAAG
+ *
+ */
+public final class ListSorter {
+	
+	/**
+	 * Lists with fewer elements than this are not worth sorting in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+	
+	private ListSorter() {
+	}
+	
+	/**
+	 * Sorts the list in ascending order according to the comparator. The sort is
+	 * stable: equal elements keep their relative order.
+	 * @param list list to sort
+	 * @param comparator comparator that determines the order of the elements
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void sort(IList<T> list, Comparator<? super T> comparator) {
+		int count = list.Count();
+		if (count < 2) {
+			return;
+		}
+		
+		T[] values = (T[]) new Object[count];
+		int i = 0;
+		for (T value : list) {
+			values[i++] = value;
+		}
+		
+		if (count < PARALLEL_THRESHOLD) {
+			Arrays.sort(values, comparator);
+		} else {
+			Arrays.parallelSort(values, comparator);
+		}
+		
+		//DeleteAtStart is O(1) in every list of the package
+		for (i = 0; i < count; i++) {
+			list.DeleteAtStart();
+		}
+		for (i = 0; i < count; i++) {
+			list.InsertAtEnd(values[i]);
+		}
+	}
+	
+	/**
+	 * Sorts the list in the natural order of its elements.
+	 * @param list list to sort
+	 */
+	public static <T extends Comparable<? super T>> void sort(IList<T> list) {
+		sort(list, Comparator.<T>naturalOrder());
+	}
+}
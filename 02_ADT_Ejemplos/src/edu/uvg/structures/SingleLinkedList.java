@@ -3,6 +3,9 @@
  */
 package edu.uvg.structures;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * @author MAAG
  *
@@ -12,6 +15,11 @@ public class SingleLinkedList<T> implements IList<T> {
 	private int count;
     private Node<T> start;
     private Node<T> end;
+    
+    //Last node reached by an indexed access and its index. Sequential calls to
+    //Get, Insert or Delete continue walking from it instead of from start.
+    private Node<T> cursor;
+    private int cursorIndex;
 
 	@Override
 	public void InsertAtStart(T value) {
@@ -27,6 +35,11 @@ public class SingleLinkedList<T> implements IList<T> {
             newNode.setNext(start);
             start = newNode;
         }
+        
+        if (cursor != null) //every node moved one position to the right
+        {
+            cursorIndex++;
+        }
         count++;
 	}
 
@@ -68,19 +81,10 @@ public class SingleLinkedList<T> implements IList<T> {
             else if ((index > 0) && (index < Count())) //Index between 1 (second element) and Count() - 1 previous the last one
             {
                 Node<T> newNode = new Node<T>(value);
-                Node<T> pretemp = start;
-                Node<T> temp = start.getNext();
-                int i = 1;
-
-                //Search the position where the node will be inserted
-                while ((temp != null) && (i < index)) {
-                    pretemp = temp;
-                    temp = temp.getNext();
-                    i++;
-                }
+                Node<T> pretemp = nodeAt(index - 1);
 
                 //doing the insertion
-                newNode.setNext(temp);
+                newNode.setNext(pretemp.getNext());
                 pretemp.setNext(newNode);
                 count++;
             }
@@ -100,17 +104,8 @@ public class SingleLinkedList<T> implements IList<T> {
         }
         else if ((index > 0) && (index < (Count() - 1)))
         {
-            Node<T> pretemp = start;
-            Node<T> temp = start.getNext();
-            int i = 1;
-
-            //Search the position where the node will be inserted
-            while ((temp != null) && (i < (Count() - 1)))
-            {
-                pretemp = temp;
-                temp = temp.getNext();
-                i++;
-            }
+            Node<T> pretemp = nodeAt(index - 1);
+            Node<T> temp = pretemp.getNext();
 
             //Delete the node
             pretemp.setNext(temp.getNext());
@@ -131,12 +126,30 @@ public class SingleLinkedList<T> implements IList<T> {
             Node<T> temp = start;
             start = start.getNext();
             count--;
+            
+            if (cursor != null) //every node moved one position to the left
+            {
+                if (cursorIndex == 0)
+                {
+                    cursor = null;
+                }
+                else
+                {
+                    cursorIndex--;
+                }
+            }
             return temp.getValue();
         }
 
         return null;
 	}
 
+	/**
+	 * Removes the last node. A single linked list can not go back from end, so
+	 * every call walks from start to the node before it: DeleteAtEnd is O(n)
+	 * and draining the list from the end is O(n^2). Use DoubleLinkedList when
+	 * the values are removed from the end.
+	 */
 	@Override
 	public T DeleteAtEnd() {
 		if (!IsEmpty()) 
@@ -147,20 +160,14 @@ public class SingleLinkedList<T> implements IList<T> {
                 Node<T> temp = start;
                 start = null;
                 end = null;
+                cursor = null;
                 count--;
                 return temp.getValue();
             }
             else
             {
-                Node<T> pretemp = start;
-                Node<T> temp = start.getNext();
-
-                //Search the position where the node will be inserted
-                while (temp != null)
-                {
-                    pretemp = temp;
-                    temp = temp.getNext();
-                }
+                Node<T> pretemp = nodeAt(Count() - 2);
+                Node<T> temp = end;
 
                 //Delete the node
                 end = pretemp;
@@ -189,22 +196,7 @@ public class SingleLinkedList<T> implements IList<T> {
             }
             else if ((index > 0) && (index < (Count() - 1)))
             {
-                Node<T> temp = start;
-                int i = 0;
-                while ((temp != null) && (i != index))
-                {
-                    temp = temp.getNext();
-                    i++;
-                }
-
-                if (temp != null)
-                {
-                    return temp.getValue();
-                }
-                else
-                {
-                    return null;
-                }
+                return nodeAt(index).getValue();
             }
             else
             {
@@ -226,4 +218,53 @@ public class SingleLinkedList<T> implements IList<T> {
 		return count;
 	}
 
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node<T> next = (count == 0) ? null : start;
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public T next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				T value = next.getValue();
+				next = next.getNext();
+				return value;
+			}
+		};
+	}
+	
+	/**
+	 * Returns the node at the given position, 0 <= index < Count(). The walk
+	 * starts from the cursor when it is not after index, so accessing the
+	 * positions in increasing order costs O(1) per access instead of O(index).
+	 */
+	private Node<T> nodeAt(int index)
+	{
+		Node<T> temp = start;
+		int i = 0;
+		
+		if ((cursor != null) && (cursorIndex <= index))
+		{
+			temp = cursor;
+			i = cursorIndex;
+		}
+		
+		while (i < index)
+		{
+			temp = temp.getNext();
+			i++;
+		}
+		
+		cursor = temp;
+		cursorIndex = index;
+		return temp;
+	}
+
 }
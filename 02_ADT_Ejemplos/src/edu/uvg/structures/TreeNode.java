@@ -14,6 +14,7 @@ public class TreeNode<K, V> {
 	private TreeNode<K, V> left;
 	private TreeNode<K, V> right;
 	private TreeNode<K, V> parent;
+	private int size; //nodes in the subtree that starts here
 	
 	public TreeNode(K id, V value) {
 		setId(id);
@@ -21,6 +22,7 @@ public class TreeNode<K, V> {
 		setLeft(null);
 		setRight(null);
 		setParent(null);
+		setSize(1);
 	}
 	
 	/**
@@ -83,6 +85,18 @@ public class TreeNode<K, V> {
 	public void setParent(TreeNode<K, V> parent) {
 		this.parent = parent;
 	}
+	/**
+	 * @return the number of nodes in the subtree of this node
+	 */
+	public int getSize() {
+		return size;
+	}
+	/**
+	 * @param size the size to set
+	 */
+	public void setSize(int size) {
+		this.size = size;
+	}
 	
 	
 }
@@ -0,0 +1,315 @@
+/**
+ *
+ */
+package edu.uvg.structures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * List that stores up to NODE_CAPACITY elements per node in a small array
+ * instead of one node per element. Walking the list visits n / NODE_CAPACITY
+ * nodes, so Get, Insert and Delete by index cost O(n / NODE_CAPACITY +
+ * NODE_CAPACITY) and a full scan reads the values from contiguous arrays.
+ *
+ * Every node except the last one is kept at least half full: a full node is
+ * split in two when inserting, and a node that drops below half borrows from
+ * or merges with the next one when deleting.
+ *
+ * @author MAAG
+ *
+ */
+public class UnrolledLinkedList<T> implements IList<T> {
+
+	public static final int NODE_CAPACITY = 64;
+	private static final int MIN_FILL = NODE_CAPACITY / 2;
+
+	private UnrolledNode<T> start;
+	private UnrolledNode<T> end;
+	private int count;
+
+	//Index of the first element of the node returned by the last call to nodeAt
+	private int lastOffset;
+
+	public UnrolledLinkedList() {
+		start = null;
+		end = null;
+		count = 0;
+	}
+
+	@Override
+	public void InsertAtStart(T value) {
+		if (IsEmpty()) {
+			start = new UnrolledNode<T>();
+			end = start;
+		} else if (start.size == NODE_CAPACITY) {
+			//Split the full start node, the lower half moves to a new node in front
+			UnrolledNode<T> newNode = new UnrolledNode<T>();
+			int half = NODE_CAPACITY / 2;
+			System.arraycopy(start.items, 0, newNode.items, 0, half);
+			System.arraycopy(start.items, half, start.items, 0, NODE_CAPACITY - half);
+			Arrays.fill(start.items, NODE_CAPACITY - half, NODE_CAPACITY, null);
+			newNode.size = half;
+			start.size = NODE_CAPACITY - half;
+			linkBefore(newNode, start);
+		}
+		start.insert(0, value);
+		count++;
+	}
+
+	@Override
+	public void InsertAtEnd(T value) {
+		if (IsEmpty()) {
+			start = new UnrolledNode<T>();
+			end = start;
+		} else if (end.size == NODE_CAPACITY) {
+			//Appending fills nodes completely, no need to split
+			UnrolledNode<T> newNode = new UnrolledNode<T>();
+			linkAfter(end, newNode);
+		}
+		end.items[end.size++] = value;
+		count++;
+	}
+
+	@Override
+	public void Insert(T value, int index) {
+		if (IsEmpty() || (index == 0)) {
+			InsertAtStart(value);
+		} else if (index >= Count()) { //if the index is equal or greater than count then insert at end
+			InsertAtEnd(value);
+		} else if (index > 0) {
+			UnrolledNode<T> temp = nodeAt(index);
+			int offset = index - lastOffset;
+
+			if (temp.size == NODE_CAPACITY) {
+				//Split the full node, the upper half moves to a new node
+				UnrolledNode<T> newNode = new UnrolledNode<T>();
+				int half = NODE_CAPACITY / 2;
+				System.arraycopy(temp.items, half, newNode.items, 0, NODE_CAPACITY - half);
+				Arrays.fill(temp.items, half, NODE_CAPACITY, null);
+				newNode.size = NODE_CAPACITY - half;
+				temp.size = half;
+				linkAfter(temp, newNode);
+
+				if (offset > half) {
+					temp = newNode;
+					offset -= half;
+				}
+			}
+			temp.insert(offset, value);
+			count++;
+		}
+	}
+
+	@Override
+	public T Delete(int index) {
+		if ((index < 0) || (index >= Count())) {
+			return null;
+		}
+
+		UnrolledNode<T> temp = nodeAt(index);
+		T value = temp.remove(index - lastOffset);
+		count--;
+		rebalance(temp);
+		return value;
+	}
+
+	@Override
+	public T DeleteAtStart() {
+		return Delete(0);
+	}
+
+	@Override
+	public T DeleteAtEnd() {
+		if (IsEmpty()) {
+			return null;
+		}
+
+		T value = end.remove(end.size - 1);
+		count--;
+		if (end.size == 0) {
+			unlink(end);
+		}
+		return value;
+	}
+
+	@Override
+	public T Get(int index) {
+		if ((index < 0) || (index >= Count())) {
+			return null;
+		}
+
+		UnrolledNode<T> temp = nodeAt(index);
+		return temp.get(index - lastOffset);
+	}
+
+	@Override
+	public boolean IsEmpty() {
+		return count == 0;
+	}
+
+	@Override
+	public int Count() {
+		return count;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			//Values of the current node, read without going through the node
+			private UnrolledNode<T> node = start;
+			private Object[] items = (start == null) ? null : start.items;
+			private int size = (start == null) ? 0 : start.size;
+			private int offset = 0;
+
+			@Override
+			public boolean hasNext() {
+				return offset < size;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public T next() {
+				if (offset >= size) {
+					throw new NoSuchElementException();
+				}
+				T value = (T) items[offset++];
+				if ((offset == size) && (node.next != null)) {
+					node = node.next;
+					items = node.items;
+					size = node.size;
+					offset = 0;
+				}
+				return value;
+			}
+		};
+	}
+
+	/**
+	 * Returns the node that holds the given position, 0 <= index < Count(),
+	 * and leaves in lastOffset the index of its first element. The walk
+	 * starts from the end of the list that is closer to index.
+	 */
+	private UnrolledNode<T> nodeAt(int index) {
+		UnrolledNode<T> temp;
+		int first;
+
+		if (index < count / 2) {
+			temp = start;
+			first = 0;
+			while (index >= first + temp.size) {
+				first += temp.size;
+				temp = temp.next;
+			}
+		} else {
+			temp = end;
+			first = count - end.size;
+			while (index < first) {
+				temp = temp.previous;
+				first -= temp.size;
+			}
+		}
+
+		lastOffset = first;
+		return temp;
+	}
+
+	/**
+	 * Restores the minimum fill of a node after a deletion, taking elements
+	 * from the next node or merging both when they fit in a single one.
+	 */
+	private void rebalance(UnrolledNode<T> node) {
+		if (node.size == 0) {
+			unlink(node);
+			return;
+		}
+
+		UnrolledNode<T> nextNode = node.next;
+		if ((node.size >= MIN_FILL) || (nextNode == null)) {
+			return;
+		}
+
+		if (node.size + nextNode.size <= NODE_CAPACITY) {
+			//Merge the next node into this one
+			System.arraycopy(nextNode.items, 0, node.items, node.size, nextNode.size);
+			node.size += nextNode.size;
+			unlink(nextNode);
+		} else {
+			//Borrow enough elements to reach the minimum fill
+			int moved = MIN_FILL - node.size;
+			System.arraycopy(nextNode.items, 0, node.items, node.size, moved);
+			node.size += moved;
+			System.arraycopy(nextNode.items, moved, nextNode.items, 0, nextNode.size - moved);
+			Arrays.fill(nextNode.items, nextNode.size - moved, nextNode.size, null);
+			nextNode.size -= moved;
+		}
+	}
+
+	private void linkAfter(UnrolledNode<T> node, UnrolledNode<T> newNode) {
+		newNode.previous = node;
+		newNode.next = node.next;
+		if (node.next != null) {
+			node.next.previous = newNode;
+		} else {
+			end = newNode;
+		}
+		node.next = newNode;
+	}
+
+	private void linkBefore(UnrolledNode<T> newNode, UnrolledNode<T> node) {
+		newNode.next = node;
+		newNode.previous = node.previous;
+		if (node.previous != null) {
+			node.previous.next = newNode;
+		} else {
+			start = newNode;
+		}
+		node.previous = newNode;
+	}
+
+	private void unlink(UnrolledNode<T> node) {
+		if (node.previous != null) {
+			node.previous.next = node.next;
+		} else {
+			start = node.next;
+		}
+		if (node.next != null) {
+			node.next.previous = node.previous;
+		} else {
+			end = node.previous;
+		}
+		node.next = null;
+		node.previous = null;
+	}
+
+	/**
+	 * Node of the list, holds size elements in items[0..size-1].
+	 */
+	private static class UnrolledNode<T> {
+
+		private final Object[] items = new Object[NODE_CAPACITY];
+		private int size;
+		private UnrolledNode<T> next;
+		private UnrolledNode<T> previous;
+
+		@SuppressWarnings("unchecked")
+		T get(int offset) {
+			return (T) items[offset];
+		}
+
+		void insert(int offset, T value) {
+			System.arraycopy(items, offset, items, offset + 1, size - offset);
+			items[offset] = value;
+			size++;
+		}
+
+		T remove(int offset) {
+			T value = get(offset);
+			System.arraycopy(items, offset + 1, items, offset, size - offset - 1);
+			items[--size] = null;
+			return value;
+		}
+	}
+
+}
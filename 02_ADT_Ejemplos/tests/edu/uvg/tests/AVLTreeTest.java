@@ -0,0 +1,102 @@
+/**
+ * 
+ */
+package edu.uvg.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.uvg.structures.AVLTree;
+import edu.uvg.structures.EjemploRecorrido;
+import edu.uvg.structures.IntegerComparator;
+
+/**
+ * @author MAAG
+ *
+ */
+class AVLTreeTest {
+
+	@Test
+	void InsertMultipleElementsTest() {
+		AVLTree<Integer, String> myAVL = new AVLTree<Integer, String>(new IntegerComparator<Integer>());
+		myAVL.insert(50, "cincuenta");
+		myAVL.insert(80, "ochenta");
+		myAVL.insert(90, "noventa");
+		myAVL.insert(60, "sesenta");
+		myAVL.insert(20, "veinte");
+		myAVL.insert(10, "diez");
+		myAVL.insert(30, "treinta");
+		
+		assertEquals(7, myAVL.count());
+		assertEquals(3, myAVL.height());
+		
+		EjemploRecorrido<String> miRecorrido = new EjemploRecorrido<String>();
+		myAVL.inOrder(miRecorrido);
+		
+		assertEquals("diez", miRecorrido.miLista.get(0));
+		assertEquals("veinte", miRecorrido.miLista.get(1));
+		assertEquals("treinta", miRecorrido.miLista.get(2));
+		assertEquals("cincuenta", miRecorrido.miLista.get(3));
+		assertEquals("sesenta", miRecorrido.miLista.get(4));
+		assertEquals("ochenta", miRecorrido.miLista.get(5));
+		assertEquals("noventa", miRecorrido.miLista.get(6));
+	}
+	
+	@Test
+	void SortedInsertsStayBalancedTest() {
+		AVLTree<Integer, Integer> myAVL = new AVLTree<Integer, Integer>(Integer::compare);
+		for (int i = 0; i < 100000; i++) {
+			myAVL.insert(i, i);
+		}
+		
+		assertEquals(100000, myAVL.count());
+		assertTrue(myAVL.height() <= 25); //1.44 * log2(100000) is about 24
+		assertEquals(77777, myAVL.find(77777));
+		assertNull(myAVL.find(100000));
+	}
+	
+	@Test
+	void DeleteTest() {
+		AVLTree<Integer, Integer> myAVL = new AVLTree<Integer, Integer>(Integer::compare);
+		for (int i = 0; i < 1000; i++) {
+			myAVL.insert(i, i);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			assertEquals(i, myAVL.delete(i));
+		}
+		
+		assertNull(myAVL.delete(0));
+		assertEquals(500, myAVL.count());
+		assertTrue(myAVL.height() <= 13);
+		assertEquals(1, myAVL.getElements().get(0));
+		assertEquals(999, myAVL.getElements().get(499));
+		
+		for (int i = 1; i < 1000; i += 2) {
+			assertEquals(i, myAVL.delete(i));
+		}
+		assertTrue(myAVL.isEmpty());
+		assertEquals(0, myAVL.height());
+	}
+	
+	@Test
+	void RangeAndOrderStatisticsTest() {
+		AVLTree<Integer, Integer> myAVL = new AVLTree<Integer, Integer>(Integer::compare);
+		for (int i = 0; i < 1000; i += 10) {
+			myAVL.insert(i, i);
+		}
+		
+		EjemploRecorrido<Integer> miRecorrido = new EjemploRecorrido<Integer>();
+		myAVL.range(myAVL.select(20), myAVL.select(29), miRecorrido); //third page of 10
+		assertEquals(10, miRecorrido.miLista.size());
+		assertEquals(200, miRecorrido.miLista.get(0));
+		assertEquals(290, miRecorrido.miLista.get(9));
+		
+		assertEquals(120, myAVL.floor(125));
+		assertEquals(130, myAVL.ceiling(125));
+		assertEquals(13, myAVL.rank(125));
+		assertEquals(13, myAVL.rank(130));
+		assertNull(myAVL.select(-1));
+	}
+
+}
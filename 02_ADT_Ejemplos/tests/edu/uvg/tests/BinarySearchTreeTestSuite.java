@@ -2,6 +2,10 @@ package edu.uvg.tests;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import edu.uvg.structures.BinarySearchTree;
@@ -245,7 +249,112 @@ class BinarySearchTreeTestSuite {
         assertEquals("noventa", miRecorrido.miLista.get(5));
         
 	}
-
-
+	
+	@Test
+	void SortedInsertsDegenerateTreeTest() {
+        BinarySearchTree<Integer, Integer> myBST = new BinarySearchTree<Integer, Integer>(Integer::compare);
+        int total = 20000; //the tree becomes a list 20000 levels deep
+        for (int i = 0; i < total; i++) {
+        	myBST.insert(i, i);
+        }
+        
+        assertEquals(total, myBST.count());
+        assertEquals(total - 1, myBST.find(total - 1));
+        
+        EjemploRecorrido<Integer> miRecorrido = new EjemploRecorrido<Integer>();
+        myBST.postOrder(miRecorrido);
+        assertEquals(total, miRecorrido.miLista.size());
+        assertEquals(total - 1, miRecorrido.miLista.get(0));
+        
+        assertEquals(0, myBST.delete(0));
+        assertEquals(total - 1, myBST.delete(total - 1));
+        assertEquals(1, myBST.getElements().get(0));
+        assertEquals(total - 2, myBST.count());
+	}
+	
+	@Test
+	void RangeAndOrderStatisticsTest() {
+        BinarySearchTree<Integer, String> myBST = new BinarySearchTree<Integer, String>(new IntegerComparator<Integer>());
+        myBST.insert(50, "cincuenta");
+        myBST.insert(80, "ochenta");
+        myBST.insert(90, "noventa");
+        myBST.insert(60, "sesenta");
+        myBST.insert(20, "veinte");
+        myBST.insert(10, "diez");
+        myBST.insert(30, "treinta");
+        
+        EjemploRecorrido<String> miRecorrido = new EjemploRecorrido<String>();
+        myBST.range(25, 80, miRecorrido);
+        assertEquals(4, miRecorrido.miLista.size());
+        assertEquals("treinta", miRecorrido.miLista.get(0));
+        assertEquals("ochenta", miRecorrido.miLista.get(3));
+        
+        assertEquals(30, myBST.floor(35));
+        assertEquals(50, myBST.ceiling(35));
+        assertEquals(90, myBST.floor(100));
+        assertNull(myBST.ceiling(100));
+        assertNull(myBST.floor(5));
+        
+        assertEquals(3, myBST.rank(50));
+        assertEquals(3, myBST.rank(45));
+        assertEquals(50, myBST.select(3));
+        assertEquals(10, myBST.select(0));
+        assertNull(myBST.select(7));
+        
+        myBST.delete(20);
+        assertEquals(30, myBST.select(1));
+        assertEquals(2, myBST.rank(50));
+	}
+	
+	@Test
+	void IteratorsAndStreamTest() {
+        BinarySearchTree<Integer, String> myBST = new BinarySearchTree<Integer, String>(new IntegerComparator<Integer>());
+        myBST.insert(50, "cincuenta");
+        myBST.insert(80, "ochenta");
+        myBST.insert(90, "noventa");
+        myBST.insert(60, "sesenta");
+        myBST.insert(20, "veinte");
+        myBST.insert(10, "diez");
+        myBST.insert(30, "treinta");
+        
+        Iterator<String> preOrder = myBST.preOrderIterator();
+        assertEquals("cincuenta", preOrder.next());
+        assertEquals("veinte", preOrder.next());
+        assertEquals("diez", preOrder.next());
+        
+        Iterator<String> postOrder = myBST.postOrderIterator();
+        assertEquals("diez", postOrder.next());
+        assertEquals("treinta", postOrder.next());
+        assertEquals("veinte", postOrder.next());
+        assertEquals("sesenta", postOrder.next());
+        
+        ArrayList<String> values = new ArrayList<String>();
+        for (String value : myBST) {
+        	values.add(value);
+        }
+        assertEquals(myBST.getElements(), values);
+        assertEquals(values, myBST.parallelStream().collect(Collectors.toList()));
+        assertEquals(7, myBST.spliterator().getExactSizeIfKnown());
+        assertEquals("ochenta", myBST.stream().filter(value -> value.startsWith("o")).findFirst().get());
+	}
+	
+	@Test
+	void FromSortedAndInsertAllTest() {
+        Integer[] keys = new Integer[100000];
+        for (int i = 0; i < keys.length; i++) {
+        	keys[i] = i;
+        }
+        
+        BinarySearchTree<Integer, Integer> myBST = BinarySearchTree.fromSorted(Integer::compare, keys, keys);
+        assertEquals(100000, myBST.count());
+        assertEquals(49999, myBST.preOrderIterator().next()); //the middle key is the root
+        
+        myBST.insertAll(new Integer[] {-1, 100000, 5}, new Integer[] {-10, -20, -30});
+        assertEquals(100002, myBST.count());
+        assertEquals(-10, myBST.find(-1));
+        assertEquals(5, myBST.find(5)); //keys already in the tree keep their value
+        assertEquals(-1, myBST.select(0));
+        assertEquals(100000, myBST.select(100001));
+	}
 
 }
@@ -0,0 +1,118 @@
+/**
+ * 
+ */
+package edu.uvg.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import edu.uvg.structures.ConcurrentStack;
+
+/**
+ * @author MAAG
+ *
+ */
+class ConcurrentStackTest {
+
+	private static final int THREADS = 4;
+	private static final int PER_THREAD = 100000;
+
+	@Test
+	void PushAndPullSingleThreadTest() {
+		ConcurrentStack<Integer> stack = new ConcurrentStack<Integer>();
+		assertNull(stack.pull());
+		stack.push(10);
+		stack.push(20);
+		assertEquals(2, stack.count());
+		assertEquals(20, stack.peek());
+		assertEquals(20, stack.pull());
+		assertEquals(10, stack.pull());
+		assertTrue(stack.isEmpty());
+	}
+	
+	@Test
+	void ConcurrentPushTest() throws Exception {
+		ConcurrentStack<Integer> stack = new ConcurrentStack<Integer>();
+		runConcurrently(() -> {
+			for (int i = 0; i < PER_THREAD; i++) {
+				stack.push(i);
+			}
+			return 0L;
+		});
+		
+		assertEquals(THREADS * PER_THREAD, stack.count());
+		
+		//Every thread pushed 0..PER_THREAD-1, so each value must appear THREADS times
+		int[] seen = new int[PER_THREAD];
+		Integer value;
+		while ((value = stack.pull()) != null) {
+			seen[value]++;
+		}
+		for (int i = 0; i < PER_THREAD; i++) {
+			assertEquals(THREADS, seen[i]);
+		}
+	}
+	
+	@Test
+	void ConcurrentPushAndPullTest() throws Exception {
+		ConcurrentStack<Long> stack = new ConcurrentStack<Long>();
+		//Each thread pushes its own values and pulls as many as it pushed,
+		//which may come from other threads; no value can be lost or repeated
+		List<Long> sums = runConcurrently(() -> {
+			long sum = 0;
+			for (int i = 0; i < PER_THREAD; i++) {
+				stack.push((long) i);
+				Long value = stack.pull();
+				while (value == null) {
+					value = stack.pull();
+				}
+				sum += value;
+			}
+			return sum;
+		});
+		
+		long total = 0;
+		for (long sum : sums) {
+			total += sum;
+		}
+		assertEquals(THREADS * ((long) PER_THREAD * (PER_THREAD - 1) / 2), total);
+		assertTrue(stack.isEmpty());
+		assertEquals(0, stack.count());
+	}
+	
+	/**
+	 * Runs the task in THREADS threads that start at the same time and returns
+	 * their results.
+	 */
+	private List<Long> runConcurrently(Callable<Long> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Long>> futures = new ArrayList<Future<Long>>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+			List<Long> results = new ArrayList<Long>();
+			for (Future<Long> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -94,5 +94,55 @@ class DoubleLinkedListTest {
 		assertEquals(testList.DeleteAtStart(), "Hola");
 		assertEquals(testList.Count(), 0);
 	}
+	
+	@Test
+	void DeleteAtEndtest() {
+		DoubleLinkedList<Integer> testList = new DoubleLinkedList<Integer>();
+		assertNull(testList.DeleteAtEnd());
+		testList.InsertAtEnd(1);
+		testList.InsertAtEnd(2);
+		testList.InsertAtEnd(3);
+		
+		assertEquals(testList.DeleteAtEnd(), 3);
+		assertEquals(testList.Count(), 2);
+		testList.InsertAtEnd(4);
+		assertEquals(testList.Get(2), 4);
+		assertEquals(testList.DeleteAtEnd(), 4);
+		assertEquals(testList.DeleteAtEnd(), 2);
+		assertEquals(testList.DeleteAtEnd(), 1);
+		assertTrue(testList.IsEmpty());
+		assertNull(testList.DeleteAtEnd());
+		
+		testList.InsertAtStart(5);
+		assertEquals(testList.Get(0), 5);
+		assertEquals(testList.DeleteAtStart(), 5);
+	}
+	
+	@Test
+	void DeleteAtIndextest() {
+		DoubleLinkedList<String> testList = new DoubleLinkedList<String>();
+		testList.InsertAtEnd("Hola");
+		testList.InsertAtEnd("GT");
+		testList.InsertAtEnd("UVG");
+		testList.InsertAtEnd("Mundo");
+		testList.InsertAtEnd("Fin");
+		
+		assertEquals(testList.Delete(2), "UVG");
+		assertEquals(testList.Count(), 4);
+		assertEquals(testList.Get(1), "GT");
+		assertEquals(testList.Get(2), "Mundo");
+		assertEquals(testList.Delete(0), "Hola");
+		assertEquals(testList.Delete(2), "Fin");
+		assertNull(testList.Delete(2));
+		assertNull(testList.Delete(-1));
+		assertEquals(testList.Count(), 2);
+		assertEquals(testList.Get(0), "GT");
+		assertEquals(testList.Get(1), "Mundo");
+		
+		//the links in both directions are still right
+		assertEquals(testList.DeleteAtEnd(), "Mundo");
+		assertEquals(testList.DeleteAtEnd(), "GT");
+		assertTrue(testList.IsEmpty());
+	}
 
 }
@@ -0,0 +1,76 @@
+/**
+ * 
+ */
+package edu.uvg.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import edu.uvg.structures.HeapPriorityQueue;
+import edu.uvg.structures.IntegerComparator;
+
+/**
+ * @author MAAG
+ *
+ */
+class HeapPriorityQueueTest {
+
+	@Test
+	void InsertAndRemoveTest() {
+		HeapPriorityQueue<Integer, String> queue = new HeapPriorityQueue<Integer, String>(new IntegerComparator<Integer>());
+		assertNull(queue.remove());
+		queue.insert(5, "cinco");
+		queue.insert(9, "nueve");
+		queue.insert(1, "uno");
+		queue.insert(7, "siete");
+		
+		assertEquals(4, queue.count());
+		assertEquals("nueve", queue.get());
+		assertEquals("nueve", queue.remove());
+		assertEquals("siete", queue.remove());
+		assertEquals("cinco", queue.remove());
+		assertEquals("uno", queue.remove());
+		assertTrue(queue.isEmpty());
+	}
+	
+	@Test
+	void HeapifyFourAryTest() {
+		Integer[] priorities = new Integer[1000];
+		Integer[] values = new Integer[1000];
+		for (int i = 0; i < priorities.length; i++) {
+			priorities[i] = (i * 37) % 1000;
+			values[i] = priorities[i];
+		}
+		
+		HeapPriorityQueue<Integer, Integer> queue = new HeapPriorityQueue<Integer, Integer>(Comparator.reverseOrder(), 4, priorities, values);
+		assertEquals(1000, queue.count());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, queue.remove());
+		}
+		assertTrue(queue.isEmpty());
+	}
+	
+	@Test
+	void ChangePriorityTest() {
+		HeapPriorityQueue<Integer, String> queue = new HeapPriorityQueue<Integer, String>(Comparator.reverseOrder(), 4);
+		HeapPriorityQueue.Entry<Integer, String> a = queue.add(10, "a");
+		HeapPriorityQueue.Entry<Integer, String> b = queue.add(20, "b");
+		HeapPriorityQueue.Entry<Integer, String> c = queue.add(30, "c");
+		
+		queue.changePriority(c, 5); //decrease-key: c goes to the top
+		assertEquals("c", queue.get());
+		queue.changePriority(c, 25);
+		assertEquals("a", queue.get());
+		assertEquals(25, c.getPriority());
+		
+		assertEquals("b", queue.remove(b));
+		assertThrows(IllegalArgumentException.class, () -> queue.remove(b));
+		assertEquals("a", queue.remove());
+		assertEquals("c", queue.remove());
+		assertThrows(IllegalArgumentException.class, () -> queue.changePriority(a, 1));
+	}
+
+}
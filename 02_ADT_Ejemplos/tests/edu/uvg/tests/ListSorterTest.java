@@ -0,0 +1,53 @@
+/**
+ * 
+ */
+package edu.uvg.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import edu.uvg.structures.DoubleLinkedList;
+import edu.uvg.structures.ListSorter;
+import edu.uvg.structures.SingleLinkedList;
+
+/**
+ * @author MAAG
+ *
+ */
+class ListSorterTest {
+
+	@Test
+	void Sorttest() {
+		SingleLinkedList<Integer> testList = new SingleLinkedList<Integer>();
+		testList.InsertAtEnd(3);
+		testList.InsertAtEnd(1);
+		testList.InsertAtEnd(2);
+		
+		ListSorter.sort(testList);
+		assertEquals(testList.Count(), 3);
+		assertEquals(testList.Get(0), 1);
+		assertEquals(testList.Get(1), 2);
+		assertEquals(testList.Get(2), 3);
+	}
+	
+	@Test
+	void FailedSortKeepsListtest() {
+		DoubleLinkedList<Integer> testList = new DoubleLinkedList<Integer>();
+		testList.InsertAtEnd(3);
+		testList.InsertAtEnd(null);
+		testList.InsertAtEnd(1);
+		
+		assertThrows(NullPointerException.class, () -> ListSorter.sort(testList, Comparator.<Integer>naturalOrder()));
+		
+		ArrayList<Integer> values = new ArrayList<Integer>();
+		for (Integer value : testList) {
+			values.add(value);
+		}
+		assertEquals(values.toString(), "[3, null, 1]");
+	}
+
+}
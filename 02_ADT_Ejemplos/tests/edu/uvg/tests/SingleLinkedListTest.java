@@ -5,6 +5,9 @@ package edu.uvg.tests;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import edu.uvg.structures.SingleLinkedList;
@@ -73,4 +76,91 @@ class SingleLinkedListTest {
 		assertEquals(testList.Get(0), "Hola");
 	}
 
+	@Test
+	void SequentialGettest() {
+		SingleLinkedList<Integer> testList = new SingleLinkedList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			testList.InsertAtEnd(i);
+		}
+		
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(testList.Get(i), i);
+		}
+		assertEquals(testList.Get(10), 10);
+	}
+	
+	@Test
+	void DeleteAtIndextest() {
+		SingleLinkedList<String> testList = new SingleLinkedList<String>();
+		testList.InsertAtEnd("Hola");
+		testList.InsertAtEnd("GT");
+		testList.InsertAtEnd("UVG");
+		testList.InsertAtEnd("Mundo");
+		
+		assertEquals(testList.Get(2), "UVG");
+		assertEquals(testList.Delete(1), "GT");
+		assertEquals(testList.Count(), 3);
+		assertEquals(testList.Get(1), "UVG");
+		testList.InsertAtStart("Inicio");
+		assertEquals(testList.Get(2), "UVG");
+	}
+	
+	@Test
+	void DeleteAtEndtest() {
+		SingleLinkedList<Integer> testList = new SingleLinkedList<Integer>();
+		testList.InsertAtEnd(1);
+		testList.InsertAtEnd(2);
+		testList.InsertAtEnd(3);
+		
+		assertEquals(testList.DeleteAtEnd(), 3);
+		assertEquals(testList.DeleteAtEnd(), 2);
+		testList.InsertAtEnd(4);
+		assertEquals(testList.Get(1), 4);
+		assertEquals(testList.DeleteAtEnd(), 4);
+		assertEquals(testList.DeleteAtEnd(), 1);
+		assertTrue(testList.IsEmpty());
+		assertNull(testList.DeleteAtEnd());
+	}
+	
+	@Test
+	void DrainFromEndtest() {
+		SingleLinkedList<Integer> testList = new SingleLinkedList<Integer>();
+		int size = 1000;
+		for (int i = 0; i < size; i++) {
+			testList.InsertAtEnd(i);
+		}
+		
+		for (int i = size - 1; i >= size / 2; i--) {
+			assertEquals(testList.DeleteAtEnd(), i);
+			assertEquals(testList.Count(), i);
+		}
+		testList.InsertAtEnd(-1);
+		assertEquals(testList.Get(size / 2), -1);
+		assertEquals(testList.DeleteAtEnd(), -1);
+		testList.InsertAtStart(-2);
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			assertEquals(testList.DeleteAtEnd(), i);
+		}
+		assertEquals(testList.Count(), 1);
+		assertEquals(testList.Get(0), -2);
+		assertEquals(testList.DeleteAtEnd(), -2);
+		assertNull(testList.DeleteAtEnd());
+	}
+	
+	@Test
+	void IteratorAndStreamtest() {
+		SingleLinkedList<Integer> testList = new SingleLinkedList<Integer>();
+		for (int i = 0; i < 5; i++) {
+			testList.InsertAtEnd(i);
+		}
+		
+		ArrayList<Integer> values = new ArrayList<Integer>();
+		for (Integer value : testList) {
+			values.add(value);
+		}
+		assertEquals(values.toString(), "[0, 1, 2, 3, 4]");
+		assertEquals(testList.stream().map(String::valueOf).collect(Collectors.joining(",")), "0,1,2,3,4");
+		assertEquals(testList.spliterator().getExactSizeIfKnown(), 5);
+	}
+
 }
@@ -5,9 +5,13 @@ package edu.uvg.tests;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.NoSuchElementException;
+
 import org.junit.jupiter.api.Test;
 
+import edu.uvg.structures.ArrayDequeStack;
 import edu.uvg.structures.IStack;
+import edu.uvg.structures.IntStack;
 import edu.uvg.structures.StackHandmade;
 import edu.uvg.structures.StackUsingArrayList;
 import edu.uvg.structures.StackUsingLinkedList;
@@ -54,5 +58,49 @@ class StackTests {
 		assertEquals(0, myTestedStack.count());
 		//assertEquals(null, myTestedStack.peek());
 	}
+	
+	@Test
+	void ArrayDequeStackGrowsTest() {
+		ArrayDequeStack<Integer> stack = new ArrayDequeStack<Integer>(2);
+		for (int i = 0; i < 100; i++) {
+			stack.push(i);
+		}
+		assertEquals(100, stack.count());
+		for (int i = 99; i >= 0; i--) {
+			assertEquals(i, stack.pull());
+		}
+		assertNull(stack.pull());
+		assertNull(stack.peek());
+	}
+	
+	@Test
+	void ArrayDequeStackAsQueueTest() {
+		ArrayDequeStack<String> deque = new ArrayDequeStack<String>(4);
+		deque.addLast("b");
+		deque.addLast("c");
+		deque.addFirst("a");
+		deque.addLast("d");
+		deque.addLast("e"); //wraps around and grows
+		assertEquals("a", deque.pollFirst());
+		assertEquals("e", deque.pollLast());
+		assertEquals("c", deque.get(1));
+		assertEquals("b", deque.peekFirst());
+		assertEquals("d", deque.peekLast());
+		assertEquals(3, deque.count());
+	}
+	
+	@Test
+	void IntStackTest() {
+		IntStack stack = new IntStack();
+		for (int i = 0; i < 100; i++) {
+			stack.push(i * 2);
+		}
+		assertEquals(198, stack.peek());
+		assertEquals(198, stack.pull());
+		assertEquals(99, stack.count());
+		stack.clear();
+		assertTrue(stack.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> stack.pull());
+	}
 
 }
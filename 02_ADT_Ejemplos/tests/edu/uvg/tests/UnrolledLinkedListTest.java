@@ -0,0 +1,145 @@
+/**
+ * 
+ */
+package edu.uvg.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.uvg.structures.UnrolledLinkedList;
+
+/**
+ * @author MAAG
+ *
+ */
+class UnrolledLinkedListTest {
+
+	@Test
+	void InsertAtStartNonEmptyListtest() {
+		UnrolledLinkedList<Integer> testList = new UnrolledLinkedList<Integer>();
+		testList.InsertAtStart(3);
+		testList.InsertAtStart(5);
+		assertEquals(testList.Get(0), 5);
+		assertEquals(testList.Count(), 2);
+		assertEquals(testList.Get(1), 3);
+	}
+	
+	@Test
+	void InsertAtIndexNonEmptyListtest() {
+		UnrolledLinkedList<String> testList = new UnrolledLinkedList<String>();
+		testList.InsertAtStart("Hola");
+		testList.InsertAtEnd("Mundo");
+		testList.Insert("UVG", 1);
+		testList.Insert("GT", 1);
+		
+		assertEquals(testList.Count(), 4);
+		assertEquals(testList.Get(0), "Hola");
+		assertEquals(testList.Get(1), "GT");
+		assertEquals(testList.Get(2), "UVG");
+		assertEquals(testList.Get(3), "Mundo");
+	}
+	
+	@Test
+	void InsertAcrossNodestest() {
+		UnrolledLinkedList<Integer> testList = new UnrolledLinkedList<Integer>();
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			int index = (i * 7) % (expected.size() + 1);
+			testList.Insert(i, index);
+			expected.add(index, i);
+		}
+		
+		assertEquals(testList.Count(), 1000);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(testList.Get(i), expected.get(i));
+		}
+	}
+	
+	@Test
+	void DeleteAcrossNodestest() {
+		UnrolledLinkedList<Integer> testList = new UnrolledLinkedList<Integer>();
+		ArrayList<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			testList.InsertAtEnd(i);
+			expected.add(i);
+		}
+		
+		for (int i = 0; i < 900; i++) {
+			int index = (i * 13) % expected.size();
+			assertEquals(testList.Delete(index), expected.remove(index));
+		}
+		assertEquals(testList.DeleteAtStart(), expected.remove(0));
+		assertEquals(testList.DeleteAtEnd(), expected.remove(expected.size() - 1));
+		
+		ArrayList<Integer> values = new ArrayList<Integer>();
+		for (Integer value : testList) {
+			values.add(value);
+		}
+		assertEquals(values, expected);
+		assertNull(testList.Get(expected.size()));
+		assertNull(testList.Delete(-1));
+	}
+	
+	@Test
+	void DeleteUntilEmptytest() {
+		UnrolledLinkedList<Integer> testList = new UnrolledLinkedList<Integer>();
+		for (int i = 0; i < 100; i++) {
+			testList.InsertAtStart(i);
+		}
+		for (int i = 0; i < 100; i++) {
+			assertEquals(testList.DeleteAtEnd(), i);
+		}
+		assertTrue(testList.IsEmpty());
+		assertNull(testList.DeleteAtStart());
+		assertFalse(testList.iterator().hasNext());
+		
+		testList.InsertAtEnd(1);
+		assertEquals(testList.Get(0), 1);
+	}
+	
+	@Test
+	void InsertAtStartKeepsNodesHalfFulltest() throws Exception {
+		UnrolledLinkedList<Integer> testList = new UnrolledLinkedList<Integer>();
+		int size = 10 * UnrolledLinkedList.NODE_CAPACITY;
+		for (int i = 0; i < size; i++) {
+			testList.InsertAtStart(i);
+		}
+		
+		assertEquals(testList.Count(), size);
+		for (int i = 0; i < size; i++) {
+			assertEquals(testList.Get(i), size - 1 - i);
+		}
+		
+		//Every node except the last one holds at least half of NODE_CAPACITY
+		ArrayList<Integer> sizes = nodeSizes(testList);
+		for (int i = 0; i < sizes.size() - 1; i++) {
+			assertTrue(sizes.get(i) >= UnrolledLinkedList.NODE_CAPACITY / 2, "node " + i + " has " + sizes.get(i));
+		}
+		assertTrue(sizes.size() <= 2 * size / UnrolledLinkedList.NODE_CAPACITY);
+	}
+	
+	/**
+	 * Sizes of the nodes of the list from start to end, read with reflection.
+	 */
+	private static ArrayList<Integer> nodeSizes(UnrolledLinkedList<?> list) throws Exception {
+		Field startField = UnrolledLinkedList.class.getDeclaredField("start");
+		startField.setAccessible(true);
+		Object node = startField.get(list);
+		
+		ArrayList<Integer> sizes = new ArrayList<Integer>();
+		while (node != null) {
+			Field sizeField = node.getClass().getDeclaredField("size");
+			Field nextField = node.getClass().getDeclaredField("next");
+			sizeField.setAccessible(true);
+			nextField.setAccessible(true);
+			sizes.add(sizeField.getInt(node));
+			node = nextField.get(node);
+		}
+		return sizes;
+	}
+
+}
@@ -0,0 +1,248 @@
+/**
+ * 
+ */
+package common;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts files that do not fit in memory. The input is read in runs of at most
+ * runSize records, each run is sorted in memory and written to a temporary
+ * file, and the runs are then merged with a heap that holds only the current
+ * record of each run. When there are more runs than maxFanIn they are merged
+ * in several passes so the number of open files stays bounded.
+ * 
+ * The sort is stable: records that compare equal keep the order they had in
+ * the input file.
+ * 
+ * @author moise
+ *
+ */
+public class ExternalSort<T> {
+	
+	private final IComparator<? super T> myCompare;
+	private final IRecordSerializer<T> serializer;
+	private final int runSize;
+	private final int maxFanIn;
+	private final File tempDirectory;
+	
+	/**
+	 * Creates an external sort that keeps at most runSize records in memory and
+	 * merges up to 64 runs at a time, using the default temporary directory.
+	 * @param _Compare comparator used to order the records
+	 * @param _serializer reads and writes the records of the files
+	 * @param _runSize maximum number of records sorted in memory at once
+	 */
+	public ExternalSort(IComparator<? super T> _Compare, IRecordSerializer<T> _serializer, int _runSize) {
+		this(_Compare, _serializer, _runSize, 64, null);
+	}
+	
+	/**
+	 * Creates an external sort.
+	 * @param _Compare comparator used to order the records
+	 * @param _serializer reads and writes the records of the files
+	 * @param _runSize maximum number of records sorted in memory at once
+	 * @param _maxFanIn maximum number of runs merged at the same time
+	 * @param _tempDirectory directory for the run files, null to use the default temporary directory
+	 */
+	public ExternalSort(IComparator<? super T> _Compare, IRecordSerializer<T> _serializer, int _runSize, int _maxFanIn, File _tempDirectory) {
+		if (_runSize < 1) {
+			throw new IllegalArgumentException("runSize must be greater than zero");
+		}
+		if (_maxFanIn < 2) {
+			throw new IllegalArgumentException("maxFanIn must be at least two");
+		}
+		
+		myCompare = _Compare;
+		serializer = _serializer;
+		runSize = _runSize;
+		maxFanIn = _maxFanIn;
+		tempDirectory = _tempDirectory;
+	}
+	
+	/**
+	 * Sorts the records of the input file and writes them to the output file.
+	 * Temporary run files are deleted before returning, even on failure.
+	 * @param input file with the records to sort
+	 * @param output file that receives the sorted records, it is overwritten
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public void sort(File input, File output) throws IOException {
+		List<File> runs = new ArrayList<File>();
+		List<File> merged = new ArrayList<File>(); //runs of the pass in progress
+		
+		try {
+			createRuns(input, runs);
+			
+			while (runs.size() > maxFanIn) {
+				merged = new ArrayList<File>();
+				for (int i = 0; i < runs.size(); i += maxFanIn) {
+					List<File> group = runs.subList(i, Math.min(i + maxFanIn, runs.size()));
+					File run = createTempFile();
+					merged.add(run);
+					merge(group, run);
+					for (File consumed : group) {
+						consumed.delete();
+					}
+				}
+				runs = merged;
+			}
+			
+			merge(runs, output);
+		} finally {
+			for (File run : runs) {
+				run.delete();
+			}
+			for (File run : merged) {
+				run.delete();
+			}
+		}
+	}
+	
+	/**
+	 * Reads the input in chunks of runSize records, sorts each chunk and
+	 * writes it to its own temporary file.
+	 */
+	@SuppressWarnings("unchecked")
+	private void createRuns(File input, List<File> runs) throws IOException {
+		Sort<T> mySort = new Sort<T>(myCompare);
+		T[] buffer = (T[]) new Object[runSize];
+		
+		BufferedReader reader = openReader(input);
+		try {
+			int count;
+			do {
+				count = 0;
+				T record;
+				while (count < runSize && (record = serializer.read(reader)) != null) {
+					buffer[count++] = record;
+				}
+				
+				if (count > 0) {
+					T[] run = (count == runSize) ? buffer : Arrays.copyOf(buffer, count);
+					mySort.parallelMergeSort(run);
+					
+					File runFile = createTempFile();
+					runs.add(runFile);
+					writeRun(run, runFile);
+				}
+			} while (count == runSize);
+		} finally {
+			reader.close();
+		}
+	}
+	
+	private void writeRun(T[] run, File runFile) throws IOException {
+		BufferedWriter writer = openWriter(runFile);
+		try {
+			for (int i = 0; i < run.length; i++) {
+				serializer.write(writer, run[i]);
+				run[i] = null; //Let the record be collected while the next run is read
+			}
+		} finally {
+			writer.close();
+		}
+	}
+	
+	/**
+	 * K-way merge of the sorted run files into the output file. The heap holds
+	 * one cursor per run ordered by its current record; ties are broken by the
+	 * position of the run so the merge is stable.
+	 */
+	private void merge(List<File> runs, File output) throws IOException {
+		PriorityQueue<RunCursor> heap = new PriorityQueue<RunCursor>(Math.max(1, runs.size()));
+		List<Closeable> open = new ArrayList<Closeable>();
+		
+		try {
+			BufferedWriter writer = openWriter(output);
+			open.add(writer);
+			
+			for (int i = 0; i < runs.size(); i++) {
+				BufferedReader reader = openReader(runs.get(i));
+				open.add(reader);
+				RunCursor cursor = new RunCursor(reader, i);
+				if (cursor.advance()) {
+					heap.add(cursor);
+				}
+			}
+			
+			while (!heap.isEmpty()) {
+				RunCursor smallest = heap.poll();
+				serializer.write(writer, smallest.current);
+				if (smallest.advance()) {
+					heap.add(smallest);
+				}
+			}
+		} finally {
+			IOException failure = null;
+			for (Closeable closeable : open) {
+				try {
+					closeable.close();
+				} catch (IOException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+	
+	private File createTempFile() throws IOException {
+		return File.createTempFile("sort-run-", ".tmp", tempDirectory);
+	}
+	
+	private static BufferedReader openReader(File file) throws IOException {
+		return new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+	}
+	
+	private static BufferedWriter openWriter(File file) throws IOException {
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Current record of one run file being merged.
+	 */
+	private class RunCursor implements Comparable<RunCursor> {
+		private final BufferedReader reader;
+		private final int order;
+		private T current;
+		
+		RunCursor(BufferedReader reader, int order) {
+			this.reader = reader;
+			this.order = order;
+		}
+		
+		/**
+		 * Reads the next record of the run, returns false when the run is exhausted.
+		 */
+		boolean advance() throws IOException {
+			current = serializer.read(reader);
+			return current != null;
+		}
+
+		@Override
+		public int compareTo(RunCursor other) {
+			int result = myCompare.Compare(current, other.current);
+			if (result != 0) {
+				return result;
+			}
+			return Integer.compare(order, other.order);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+/**
+ * 
+ */
+package common;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+/**
+ * Converts records to and from the text files used by ExternalSort.
+ * 
+ * @author moise
+ *
+ */
+public interface IRecordSerializer<T> {
+	
+	public T read(BufferedReader reader) throws IOException;
+	// post: returns the next record of the reader or null if there are no more records
+	
+	public void write(BufferedWriter writer, T record) throws IOException;
+	// post: the record is written so that read returns an equivalent record
+}
@@ -5,12 +5,48 @@ package common;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * @author moise
  *
  */
 public class Sort <T> {
+	/**
+	 * Subarrays with this many elements or fewer are sorted with insertion sort
+	 * instead of being split again.
+	 */
+	private static final int INSERTION_CUTOFF = 32;
+	
+	/**
+	 * Subarrays with this many elements or fewer are sorted by a single
+	 * fork/join task instead of being forked into two new tasks.
+	 */
+	private static final int PARALLEL_CUTOFF = 8192;
+	
+	/**
+	 * Subarrays with more elements than this use Tukey's ninther (median of
+	 * three medians of three) as pivot instead of a plain median of three.
+	 */
+	private static final int NINTHER_CUTOFF = 128;
+	
+	/**
+	 * Arrays shorter than this are sorted by adaptiveMergeSort with a single
+	 * binary insertion sort; it is also the upper bound of the minimum run length.
+	 */
+	private static final int MIN_MERGE = 32;
+	
+	/**
+	 * Number of consecutive wins of the same run after which a merge switches
+	 * to galloping mode.
+	 */
+	private static final int MIN_GALLOP = 7;
+	
 	public IComparator myCompare;
 	
 	/**
@@ -19,10 +55,19 @@ public class Sort <T> {
 	 * @param _Compare a class that implements IComparator interface necessary
 	 * to know how compare the elements of generic arrays. 
 	 */
-	public Sort(IComparator _Compare) {
+	public Sort(IComparator<? super T> _Compare) {
 		myCompare = _Compare;
 	}
 	
+	/**
+	 * Creates a Sort that orders the elements with a java.util.Comparator
+	 * instead of an IComparator.
+	 * @param _Compare comparator used to know how compare the elements of generic arrays.
+	 */
+	public static <T> Sort<T> of(Comparator<? super T> _Compare) {
+		return new Sort<T>(_Compare::compare);
+	}
+	
 	/***
 	 * Sorts the specified array of objects using the bubble
 	 * sort algorithm.
@@ -73,13 +118,25 @@ public class Sort <T> {
 	 */
    public void insertionSort (T[] myArray)
    {
-      for (int index = 1; index < myArray.length; index++)
+      insertionSort(myArray, 0, myArray.length - 1);
+   }
+   
+   /***
+	 * Sorts a range of the specified array of objects using the insertion
+	 * sort algorithm.
+	 * @param myArray List of elements need to be sorted
+	 * @param inf lower index limit of the range (inclusive)
+	 * @param sup upper index limit of the range (inclusive)
+	 */
+   public void insertionSort (T[] myArray, int inf, int sup)
+   {
+      for (int index = inf + 1; index <= sup; index++)
       {
          T key = myArray[index];
          int position = index;
 
          //  Shift larger values to the right
-         while (position > 0 && (myCompare.Compare(key, myArray[position-1]) < 0) )
+         while (position > inf && (myCompare.Compare(key, myArray[position-1]) < 0) )
          {
         	 myArray[position] = myArray[position-1];
             position--;
@@ -129,4 +186,1059 @@ public class Sort <T> {
 	   quickSort(myArray, inf, i - 1);
 	   quickSort(myArray, i + 1, sup);
    }
+   
+   /***
+	 * Sorts the specified array of objects using introspective sort: a quicksort
+	 * with median-of-three (or ninther) pivots and three-way partitioning that
+	 * switches to heapsort when the recursion gets too deep and to insertion
+	 * sort for small ranges. Unlike quickSort it runs in O(n log n) even for
+	 * sorted, reversed or duplicate-heavy input.
+	 * @param myArray List of elements need to be sorted
+	 */
+   public void introSort(T[] myArray) {
+	   if (myArray.length < 2) {
+		   return;
+	   }
+	   
+	   int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(myArray.length));
+	   introSort(myArray, 0, myArray.length - 1, depthLimit);
+   }
+   
+   /***
+	 * Sorts myArray[inf..sup]. The smaller partition is sorted recursively and
+	 * the larger one in the loop, so the stack never grows beyond O(log n).
+	 * @param depthLimit partitioning rounds left before switching to heapsort
+	 */
+   private void introSort(T[] myArray, int inf, int sup, int depthLimit) {
+	   while (sup - inf >= INSERTION_CUTOFF) {
+		   if (depthLimit == 0) {
+			   heapSort(myArray, inf, sup);
+			   return;
+		   }
+		   depthLimit--;
+		   
+		   T elem_div = myArray[choosePivot(myArray, inf, sup)];
+		   
+		   //Three-way partition: [inf, lt) < elem_div, [lt, gt] == elem_div, (gt, sup] > elem_div
+		   int lt = inf;
+		   int gt = sup;
+		   int i = inf;
+		   while (i <= gt) {
+			   int result = myCompare.Compare(myArray[i], elem_div);
+			   if (result < 0) {
+				   swap(myArray, lt++, i++);
+			   } else if (result > 0) {
+				   swap(myArray, i, gt--);
+			   } else {
+				   i++;
+			   }
+		   }
+		   
+		   if (lt - inf < sup - gt) {
+			   introSort(myArray, inf, lt - 1, depthLimit);
+			   inf = gt + 1;
+		   } else {
+			   introSort(myArray, gt + 1, sup, depthLimit);
+			   sup = lt - 1;
+		   }
+	   }
+	   
+	   insertionSort(myArray, inf, sup);
+   }
+   
+   /***
+	 * Returns the index of the pivot for myArray[inf..sup]: the median of the
+	 * first, middle and last elements, or Tukey's ninther for large ranges.
+	 */
+   private int choosePivot(T[] myArray, int inf, int sup) {
+	   int middle = (inf + sup) >>> 1;
+	   
+	   if (sup - inf < NINTHER_CUTOFF) {
+		   return medianOfThree(myArray, inf, middle, sup);
+	   }
+	   
+	   int step = (sup - inf) / 8;
+	   int first = medianOfThree(myArray, inf, inf + step, inf + 2 * step);
+	   int second = medianOfThree(myArray, middle - step, middle, middle + step);
+	   int third = medianOfThree(myArray, sup - 2 * step, sup - step, sup);
+	   return medianOfThree(myArray, first, second, third);
+   }
+   
+   private int medianOfThree(T[] myArray, int a, int b, int c) {
+	   if (myCompare.Compare(myArray[a], myArray[b]) < 0) {
+		   if (myCompare.Compare(myArray[b], myArray[c]) < 0) {
+			   return b;
+		   }
+		   return myCompare.Compare(myArray[a], myArray[c]) < 0 ? c : a;
+	   }
+	   
+	   if (myCompare.Compare(myArray[a], myArray[c]) < 0) {
+		   return a;
+	   }
+	   return myCompare.Compare(myArray[b], myArray[c]) < 0 ? c : b;
+   }
+   
+   /***
+	 * Sorts myArray[inf..sup] using heapsort, the O(n log n) fallback of introSort.
+	 */
+   private void heapSort(T[] myArray, int inf, int sup) {
+	   int size = sup - inf + 1;
+	   
+	   for (int i = size / 2 - 1; i >= 0; i--) {
+		   siftDown(myArray, inf, i, size);
+	   }
+	   
+	   for (int last = size - 1; last > 0; last--) {
+		   swap(myArray, inf, inf + last);
+		   siftDown(myArray, inf, 0, last);
+	   }
+   }
+   
+   /***
+	 * Moves the element at heap position i down a max-heap of the given size
+	 * stored from myArray[offset] on.
+	 */
+   private void siftDown(T[] myArray, int offset, int i, int size) {
+	   T value = myArray[offset + i];
+	   int child;
+	   
+	   while ((child = 2 * i + 1) < size) {
+		   if (child + 1 < size && myCompare.Compare(myArray[offset + child], myArray[offset + child + 1]) < 0) {
+			   child++;
+		   }
+		   if (myCompare.Compare(value, myArray[offset + child]) >= 0) {
+			   break;
+		   }
+		   myArray[offset + i] = myArray[offset + child];
+		   i = child;
+	   }
+	   
+	   myArray[offset + i] = value;
+   }
+   
+   private void swap(T[] myArray, int i, int j) {
+	   T temp = myArray[i];
+	   myArray[i] = myArray[j];
+	   myArray[j] = temp;
+   }
+   
+   /***
+	 * Rearranges the specified array so that myArray[n] holds the element that
+	 * would be there if the array were sorted, every element before it compares
+	 * less or equal and every element after it compares greater or equal.
+	 * Uses introselect: quickselect with the pivots and three-way partition of
+	 * introSort, falling back to heapsort if the partitions are too unbalanced,
+	 * so it runs in O(n) on average and O(n log n) in the worst case.
+	 * @param myArray List of elements
+	 * @param n index of the element to select, between 0 and myArray.length - 1
+	 * @return the element at position n after the rearrangement
+	 */
+   public T nthElement(T[] myArray, int n) {
+	   if (n < 0 || n >= myArray.length) {
+		   throw new IndexOutOfBoundsException("n: " + n + ", length: " + myArray.length);
+	   }
+	   
+	   select(myArray, 0, myArray.length - 1, n);
+	   return myArray[n];
+   }
+   
+   /***
+	 * Sorts only the first k positions of the specified array: after the call
+	 * myArray[0..k-1] holds the k smallest elements in order and the rest of the
+	 * array holds the other elements in no particular order. Runs in
+	 * O(n + k log k) instead of the O(n log n) of sorting the whole array.
+	 * @param myArray List of elements
+	 * @param k number of positions to sort
+	 */
+   public void partialSort(T[] myArray, int k) {
+	   if (k >= myArray.length) {
+		   introSort(myArray);
+		   return;
+	   }
+	   if (k <= 0) {
+		   return;
+	   }
+	   
+	   select(myArray, 0, myArray.length - 1, k - 1);
+	   if (k > 1) {
+		   introSort(myArray, 0, k - 2, 2 * (31 - Integer.numberOfLeadingZeros(k - 1)));
+	   }
+   }
+   
+   /***
+	 * Returns the k smallest elements of the specified array in order, without
+	 * modifying the array. To get the k best elements (e.g. the highest grades)
+	 * use a comparator that puts the best elements first. Uses a bounded heap of
+	 * k elements, so it needs O(k) extra memory and O(n log k) time.
+	 * @param myArray List of elements
+	 * @param k number of elements to return
+	 * @return a new array with min(k, myArray.length) elements
+	 */
+   @SuppressWarnings("unchecked")
+   public T[] selectTopK(T[] myArray, int k) {
+	   TopKSelector<T> selector = new TopKSelector<T>(myCompare, k);
+	   for (int i = 0; i < myArray.length; i++) {
+		   selector.offer(myArray[i]);
+	   }
+	   return selector.toSortedArray(myArray);
+   }
+   
+   /***
+	 * Introselect: partitions myArray[inf..sup] until position n holds its
+	 * final element.
+	 */
+   private void select(T[] myArray, int inf, int sup, int n) {
+	   int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(sup - inf + 1));
+	   
+	   while (sup - inf >= INSERTION_CUTOFF) {
+		   if (depthLimit == 0) {
+			   heapSort(myArray, inf, sup);
+			   return;
+		   }
+		   depthLimit--;
+		   
+		   T elem_div = myArray[choosePivot(myArray, inf, sup)];
+		   
+		   //Three-way partition: [inf, lt) < elem_div, [lt, gt] == elem_div, (gt, sup] > elem_div
+		   int lt = inf;
+		   int gt = sup;
+		   int i = inf;
+		   while (i <= gt) {
+			   int result = myCompare.Compare(myArray[i], elem_div);
+			   if (result < 0) {
+				   swap(myArray, lt++, i++);
+			   } else if (result > 0) {
+				   swap(myArray, i, gt--);
+			   } else {
+				   i++;
+			   }
+		   }
+		   
+		   //Only the partition that contains n is processed further
+		   if (n < lt) {
+			   sup = lt - 1;
+		   } else if (n > gt) {
+			   inf = gt + 1;
+		   } else {
+			   return;
+		   }
+	   }
+	   
+	   insertionSort(myArray, inf, sup);
+   }
+   
+   /***
+	 * Sorts the specified array of objects using a parallel merge sort that
+	 * runs on the common ForkJoinPool, so no threads are created for each
+	 * call. The sort is stable: equal elements keep their relative order.
+	 * @param myArray List of elements need to be sorted
+	 */
+   public void parallelMergeSort(T[] myArray) {
+	   parallelMergeSort(myArray, ForkJoinPool.commonPool());
+   }
+   
+   /***
+	 * Sorts the specified array of objects using a parallel merge sort driven
+	 * by a ForkJoinPool. Ranges smaller than the sequential cutoff are sorted
+	 * by a single task with insertion sort. The sort is stable: equal elements
+	 * keep their relative order. When parallelism equals the parallelism of
+	 * the common ForkJoinPool the common pool is used; any other value creates
+	 * a dedicated ForkJoinPool that is shut down after the call.
+	 * @param myArray List of elements need to be sorted
+	 * @param parallelism number of worker threads used to sort the array
+	 */
+   public void parallelMergeSort(T[] myArray, int parallelism) {
+	   if (parallelism < 1) {
+		   throw new IllegalArgumentException("parallelism must be greater than zero");
+	   }
+	   
+	   if (parallelism == 1) {
+		   if (myArray.length > 1) {
+			   mergeSort(myArray, Arrays.copyOf(myArray, myArray.length), 0, myArray.length - 1);
+		   }
+		   return;
+	   }
+	   
+	   ForkJoinPool commonPool = ForkJoinPool.commonPool();
+	   if (parallelism == commonPool.getParallelism() || myArray.length <= PARALLEL_CUTOFF) {
+		   parallelMergeSort(myArray, commonPool);
+		   return;
+	   }
+	   
+	   ForkJoinPool pool = new ForkJoinPool(parallelism);
+	   try {
+		   parallelMergeSort(myArray, pool);
+	   } finally {
+		   pool.shutdown();
+	   }
+   }
+   
+   private void parallelMergeSort(T[] myArray, ForkJoinPool pool) {
+	   if (myArray.length < 2) {
+		   return;
+	   }
+	   
+	   T[] buffer = Arrays.copyOf(myArray, myArray.length); //One temp buffer shared by every task
+	   
+	   if (myArray.length <= PARALLEL_CUTOFF) {
+		   mergeSort(myArray, buffer, 0, myArray.length - 1);
+		   return;
+	   }
+	   
+	   pool.invoke(new MergeSortTask(myArray, buffer, 0, myArray.length - 1));
+   }
+   
+   /***
+	 * Sequential top-down merge sort of myArray[inf..sup] using buffer as
+	 * temporary storage.
+	 */
+   private void mergeSort(T[] myArray, T[] buffer, int inf, int sup) {
+	   if (sup - inf < INSERTION_CUTOFF) {
+		   insertionSort(myArray, inf, sup);
+		   return;
+	   }
+	   
+	   int middle = (inf + sup) >>> 1;
+	   mergeSort(myArray, buffer, inf, middle);
+	   mergeSort(myArray, buffer, middle + 1, sup);
+	   merge(myArray, buffer, inf, middle, sup);
+   }
+   
+   /***
+	 * Merges the sorted ranges myArray[inf..middle] and myArray[middle+1..sup].
+	 * On ties the element of the left range goes first, which keeps the sort stable.
+	 */
+   private void merge(T[] myArray, T[] buffer, int inf, int middle, int sup) {
+	   if (myCompare.Compare(myArray[middle], myArray[middle + 1]) <= 0) {
+		   return; //Both halves are already in order
+	   }
+	   
+	   System.arraycopy(myArray, inf, buffer, inf, sup - inf + 1);
+	   
+	   int i = inf;
+	   int j = middle + 1;
+	   int k = inf;
+	   
+	   while (i <= middle && j <= sup) {
+		   if (myCompare.Compare(buffer[j], buffer[i]) < 0) {
+			   myArray[k++] = buffer[j++];
+		   } else {
+			   myArray[k++] = buffer[i++];
+		   }
+	   }
+	   
+	   while (i <= middle) {
+		   myArray[k++] = buffer[i++];
+	   }
+	   //Elements left in the right half are already in their final position
+   }
+   
+   /***
+	 * Fork/join task that sorts myArray[inf..sup]. Both halves of a range are
+	 * sorted in parallel and then merged by the task that forked them.
+	 */
+   private class MergeSortTask extends RecursiveAction {
+	   private static final long serialVersionUID = 1L;
+	   
+	   private final T[] myArray;
+	   private final T[] buffer;
+	   private final int inf;
+	   private final int sup;
+	   
+	   MergeSortTask(T[] myArray, T[] buffer, int inf, int sup) {
+		   this.myArray = myArray;
+		   this.buffer = buffer;
+		   this.inf = inf;
+		   this.sup = sup;
+	   }
+	   
+	   @Override
+	   protected void compute() {
+		   if (sup - inf < PARALLEL_CUTOFF) {
+			   mergeSort(myArray, buffer, inf, sup);
+			   return;
+		   }
+		   
+		   int middle = (inf + sup) >>> 1;
+		   invokeAll(new MergeSortTask(myArray, buffer, inf, middle),
+				   new MergeSortTask(myArray, buffer, middle + 1, sup));
+		   merge(myArray, buffer, inf, middle, sup);
+	   }
+   }
+   
+   /***
+	 * Sorts the specified array of objects using an adaptive, TimSort-style
+	 * merge sort. Ascending and descending runs already present in the input are
+	 * detected and merged with galloping merges, so nearly sorted data (for
+	 * example records sorted by year with an unsorted tail appended) is sorted
+	 * in close to O(n) time; the worst case is still O(n log n). A single
+	 * temporary buffer, never larger than half the array, is reused by every
+	 * merge. The sort is stable.
+	 * @param myArray List of elements need to be sorted
+	 */
+   public void adaptiveMergeSort(T[] myArray) {
+	   int length = myArray.length;
+	   if (length < 2) {
+		   return;
+	   }
+	   
+	   if (length < MIN_MERGE) {
+		   int runLength = countRunAndMakeAscending(myArray, 0, length);
+		   binaryInsertionSort(myArray, 0, length, runLength);
+		   return;
+	   }
+	   
+	   RunMerger merger = new RunMerger(myArray);
+	   int minRun = minRunLength(length);
+	   int low = 0;
+	   int remaining = length;
+	   
+	   do {
+		   int runLength = countRunAndMakeAscending(myArray, low, low + remaining);
+		   
+		   //Short runs are extended to minRun elements with binary insertion sort
+		   if (runLength < minRun) {
+			   int forced = Math.min(remaining, minRun);
+			   binaryInsertionSort(myArray, low, low + forced, low + runLength);
+			   runLength = forced;
+		   }
+		   
+		   merger.pushRun(low, runLength);
+		   merger.mergeCollapse();
+		   
+		   low += runLength;
+		   remaining -= runLength;
+	   } while (remaining != 0);
+	   
+	   merger.mergeForceCollapse();
+   }
+   
+   /***
+	 * Returns the length of the run that starts at myArray[low], looking no
+	 * further than high (exclusive). A strictly descending run is reversed in
+	 * place; requiring it to be strict keeps the sort stable.
+	 */
+   private int countRunAndMakeAscending(T[] myArray, int low, int high) {
+	   int runHigh = low + 1;
+	   if (runHigh == high) {
+		   return 1;
+	   }
+	   
+	   if (myCompare.Compare(myArray[runHigh++], myArray[low]) < 0) {
+		   while (runHigh < high && myCompare.Compare(myArray[runHigh], myArray[runHigh - 1]) < 0) {
+			   runHigh++;
+		   }
+		   
+		   for (int i = low, j = runHigh - 1; i < j; i++, j--) {
+			   swap(myArray, i, j);
+		   }
+	   } else {
+		   while (runHigh < high && myCompare.Compare(myArray[runHigh], myArray[runHigh - 1]) >= 0) {
+			   runHigh++;
+		   }
+	   }
+	   
+	   return runHigh - low;
+   }
+   
+   /***
+	 * Sorts myArray[low..high) knowing that myArray[low..start) is already
+	 * sorted. Each element is placed after the elements equal to it, which keeps
+	 * the sort stable.
+	 */
+   private void binaryInsertionSort(T[] myArray, int low, int high, int start) {
+	   for (; start < high; start++) {
+		   T pivot = myArray[start];
+		   int left = low;
+		   int right = start;
+		   
+		   while (left < right) {
+			   int middle = (left + right) >>> 1;
+			   if (myCompare.Compare(pivot, myArray[middle]) < 0) {
+				   right = middle;
+			   } else {
+				   left = middle + 1;
+			   }
+		   }
+		   
+		   System.arraycopy(myArray, left, myArray, left + 1, start - left);
+		   myArray[left] = pivot;
+	   }
+   }
+   
+   /***
+	 * Returns the minimum run length for an array of the given length: a value
+	 * between MIN_MERGE / 2 and MIN_MERGE such that length / minRun is a power
+	 * of two or slightly less, which keeps the final merges balanced.
+	 */
+   private static int minRunLength(int length) {
+	   int lowBits = 0;
+	   while (length >= MIN_MERGE) {
+		   lowBits |= (length & 1);
+		   length >>= 1;
+	   }
+	   return length + lowBits;
+   }
+   
+   /***
+	 * Stack of pending runs of adaptiveMergeSort and the merge procedures that
+	 * work on them. The stack keeps the TimSort invariants, so runs are merged
+	 * with runs of similar length and the stack depth stays logarithmic.
+	 */
+   private class RunMerger {
+	   private final T[] myArray;
+	   private Object[] buffer;
+	   private int minGallop = MIN_GALLOP;
+	   
+	   private final int[] runBase = new int[49];
+	   private final int[] runLength = new int[49];
+	   private int stackSize = 0;
+	   
+	   RunMerger(T[] myArray) {
+		   this.myArray = myArray;
+		   this.buffer = new Object[Math.min(256, myArray.length >>> 1)];
+	   }
+	   
+	   void pushRun(int base, int length) {
+		   runBase[stackSize] = base;
+		   runLength[stackSize] = length;
+		   stackSize++;
+	   }
+	   
+	   /***
+		 * Merges runs until the invariants hold again for the whole stack:
+		 * runLength[i - 2] > runLength[i - 1] + runLength[i] and
+		 * runLength[i - 1] > runLength[i].
+		 */
+	   void mergeCollapse() {
+		   while (stackSize > 1) {
+			   int n = stackSize - 2;
+			   if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+					   || (n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1])) {
+				   if (runLength[n - 1] < runLength[n + 1]) {
+					   n--;
+				   }
+			   } else if (runLength[n] > runLength[n + 1]) {
+				   break;
+			   }
+			   mergeAt(n);
+		   }
+	   }
+	   
+	   /***
+		 * Merges every remaining run, once the whole array has been scanned.
+		 */
+	   void mergeForceCollapse() {
+		   while (stackSize > 1) {
+			   int n = stackSize - 2;
+			   if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+				   n--;
+			   }
+			   mergeAt(n);
+		   }
+	   }
+	   
+	   /***
+		 * Merges the runs at positions i and i + 1 of the stack.
+		 */
+	   private void mergeAt(int i) {
+		   int base1 = runBase[i];
+		   int length1 = runLength[i];
+		   int base2 = runBase[i + 1];
+		   int length2 = runLength[i + 1];
+		   
+		   runLength[i] = length1 + length2;
+		   if (i == stackSize - 3) {
+			   runBase[i + 1] = runBase[i + 2];
+			   runLength[i + 1] = runLength[i + 2];
+		   }
+		   stackSize--;
+		   
+		   //Elements of run1 smaller than the first of run2 are already in place
+		   int skipped = gallopRight(myArray[base2], myArray, base1, length1, 0);
+		   base1 += skipped;
+		   length1 -= skipped;
+		   if (length1 == 0) {
+			   return;
+		   }
+		   
+		   //Elements of run2 bigger than the last of run1 are already in place
+		   length2 = gallopLeft(myArray[base1 + length1 - 1], myArray, base2, length2, length2 - 1);
+		   if (length2 == 0) {
+			   return;
+		   }
+		   
+		   if (length1 <= length2) {
+			   mergeLow(base1, length1, base2, length2);
+		   } else {
+			   mergeHigh(base1, length1, base2, length2);
+		   }
+	   }
+	   
+	   /***
+		 * Returns the position in source[base..base + length) where key must be
+		 * inserted before any equal element, starting the search at hint.
+		 */
+	   private int gallopLeft(Object key, Object[] source, int base, int length, int hint) {
+		   int lastOffset = 0;
+		   int offset = 1;
+		   
+		   if (myCompare.Compare(key, source[base + hint]) > 0) {
+			   int maxOffset = length - hint;
+			   while (offset < maxOffset && myCompare.Compare(key, source[base + hint + offset]) > 0) {
+				   lastOffset = offset;
+				   offset = (offset << 1) + 1;
+				   if (offset <= 0) {
+					   offset = maxOffset;
+				   }
+			   }
+			   if (offset > maxOffset) {
+				   offset = maxOffset;
+			   }
+			   lastOffset += hint;
+			   offset += hint;
+		   } else {
+			   int maxOffset = hint + 1;
+			   while (offset < maxOffset && myCompare.Compare(key, source[base + hint - offset]) <= 0) {
+				   lastOffset = offset;
+				   offset = (offset << 1) + 1;
+				   if (offset <= 0) {
+					   offset = maxOffset;
+				   }
+			   }
+			   if (offset > maxOffset) {
+				   offset = maxOffset;
+			   }
+			   int temp = lastOffset;
+			   lastOffset = hint - offset;
+			   offset = hint - temp;
+		   }
+		   
+		   //Binary search in (lastOffset, offset]
+		   lastOffset++;
+		   while (lastOffset < offset) {
+			   int middle = lastOffset + ((offset - lastOffset) >>> 1);
+			   if (myCompare.Compare(key, source[base + middle]) > 0) {
+				   lastOffset = middle + 1;
+			   } else {
+				   offset = middle;
+			   }
+		   }
+		   return offset;
+	   }
+	   
+	   /***
+		 * Returns the position in source[base..base + length) where key must be
+		 * inserted after any equal element, starting the search at hint.
+		 */
+	   private int gallopRight(Object key, Object[] source, int base, int length, int hint) {
+		   int lastOffset = 0;
+		   int offset = 1;
+		   
+		   if (myCompare.Compare(key, source[base + hint]) < 0) {
+			   int maxOffset = hint + 1;
+			   while (offset < maxOffset && myCompare.Compare(key, source[base + hint - offset]) < 0) {
+				   lastOffset = offset;
+				   offset = (offset << 1) + 1;
+				   if (offset <= 0) {
+					   offset = maxOffset;
+				   }
+			   }
+			   if (offset > maxOffset) {
+				   offset = maxOffset;
+			   }
+			   int temp = lastOffset;
+			   lastOffset = hint - offset;
+			   offset = hint - temp;
+		   } else {
+			   int maxOffset = length - hint;
+			   while (offset < maxOffset && myCompare.Compare(key, source[base + hint + offset]) >= 0) {
+				   lastOffset = offset;
+				   offset = (offset << 1) + 1;
+				   if (offset <= 0) {
+					   offset = maxOffset;
+				   }
+			   }
+			   if (offset > maxOffset) {
+				   offset = maxOffset;
+			   }
+			   lastOffset += hint;
+			   offset += hint;
+		   }
+		   
+		   //Binary search in (lastOffset, offset]
+		   lastOffset++;
+		   while (lastOffset < offset) {
+			   int middle = lastOffset + ((offset - lastOffset) >>> 1);
+			   if (myCompare.Compare(key, source[base + middle]) < 0) {
+				   offset = middle;
+			   } else {
+				   lastOffset = middle + 1;
+			   }
+		   }
+		   return offset;
+	   }
+	   
+	   /***
+		 * Merges two adjacent runs left to right, copying the shorter first run
+		 * to the buffer. Requires length1 <= length2, the first element of run2
+		 * smaller than the first of run1 and the last element of run1 bigger
+		 * than every element of run2.
+		 */
+	   @SuppressWarnings("unchecked")
+	   private void mergeLow(int base1, int length1, int base2, int length2) {
+		   Object[] temp = ensureCapacity(length1);
+		   System.arraycopy(myArray, base1, temp, 0, length1);
+		   
+		   int cursor1 = 0;
+		   int cursor2 = base2;
+		   int dest = base1;
+		   
+		   myArray[dest++] = myArray[cursor2++];
+		   if (--length2 == 0) {
+			   System.arraycopy(temp, cursor1, myArray, dest, length1);
+			   return;
+		   }
+		   if (length1 == 1) {
+			   System.arraycopy(myArray, cursor2, myArray, dest, length2);
+			   myArray[dest + length2] = (T) temp[cursor1];
+			   return;
+		   }
+		   
+		   int gallop = minGallop;
+		   outer:
+		   while (true) {
+			   int count1 = 0; //Consecutive wins of run1
+			   int count2 = 0; //Consecutive wins of run2
+			   
+			   //One element at a time until one run starts winning consistently
+			   do {
+				   if (myCompare.Compare(myArray[cursor2], temp[cursor1]) < 0) {
+					   myArray[dest++] = myArray[cursor2++];
+					   count2++;
+					   count1 = 0;
+					   if (--length2 == 0) {
+						   break outer;
+					   }
+				   } else {
+					   myArray[dest++] = (T) temp[cursor1++];
+					   count1++;
+					   count2 = 0;
+					   if (--length1 == 1) {
+						   break outer;
+					   }
+				   }
+			   } while ((count1 | count2) < gallop);
+			   
+			   //Galloping: copy whole blocks while it keeps paying off
+			   do {
+				   count1 = gallopRight(myArray[cursor2], temp, cursor1, length1, 0);
+				   if (count1 != 0) {
+					   System.arraycopy(temp, cursor1, myArray, dest, count1);
+					   dest += count1;
+					   cursor1 += count1;
+					   length1 -= count1;
+					   if (length1 <= 1) {
+						   break outer;
+					   }
+				   }
+				   myArray[dest++] = myArray[cursor2++];
+				   if (--length2 == 0) {
+					   break outer;
+				   }
+				   
+				   count2 = gallopLeft(temp[cursor1], myArray, cursor2, length2, 0);
+				   if (count2 != 0) {
+					   System.arraycopy(myArray, cursor2, myArray, dest, count2);
+					   dest += count2;
+					   cursor2 += count2;
+					   length2 -= count2;
+					   if (length2 == 0) {
+						   break outer;
+					   }
+				   }
+				   myArray[dest++] = (T) temp[cursor1++];
+				   if (--length1 == 1) {
+					   break outer;
+				   }
+				   gallop--;
+			   } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+			   
+			   //Galloping stopped paying off, make it harder to enter again
+			   if (gallop < 0) {
+				   gallop = 0;
+			   }
+			   gallop += 2;
+		   }
+		   minGallop = gallop < 1 ? 1 : gallop;
+		   
+		   if (length1 == 1) {
+			   System.arraycopy(myArray, cursor2, myArray, dest, length2);
+			   myArray[dest + length2] = (T) temp[cursor1];
+		   } else if (length1 == 0) {
+			   throw new IllegalArgumentException("Comparison method violates its general contract");
+		   } else {
+			   System.arraycopy(temp, cursor1, myArray, dest, length1);
+		   }
+	   }
+	   
+	   /***
+		 * Merges two adjacent runs right to left, copying the shorter second run
+		 * to the buffer. Same preconditions as mergeLow but with length1 >= length2.
+		 */
+	   @SuppressWarnings("unchecked")
+	   private void mergeHigh(int base1, int length1, int base2, int length2) {
+		   Object[] temp = ensureCapacity(length2);
+		   System.arraycopy(myArray, base2, temp, 0, length2);
+		   
+		   int cursor1 = base1 + length1 - 1;
+		   int cursor2 = length2 - 1;
+		   int dest = base2 + length2 - 1;
+		   
+		   myArray[dest--] = myArray[cursor1--];
+		   if (--length1 == 0) {
+			   System.arraycopy(temp, 0, myArray, dest - (length2 - 1), length2);
+			   return;
+		   }
+		   if (length2 == 1) {
+			   dest -= length1;
+			   cursor1 -= length1;
+			   System.arraycopy(myArray, cursor1 + 1, myArray, dest + 1, length1);
+			   myArray[dest] = (T) temp[cursor2];
+			   return;
+		   }
+		   
+		   int gallop = minGallop;
+		   outer:
+		   while (true) {
+			   int count1 = 0; //Consecutive wins of run1
+			   int count2 = 0; //Consecutive wins of run2
+			   
+			   do {
+				   if (myCompare.Compare(temp[cursor2], myArray[cursor1]) < 0) {
+					   myArray[dest--] = myArray[cursor1--];
+					   count1++;
+					   count2 = 0;
+					   if (--length1 == 0) {
+						   break outer;
+					   }
+				   } else {
+					   myArray[dest--] = (T) temp[cursor2--];
+					   count2++;
+					   count1 = 0;
+					   if (--length2 == 1) {
+						   break outer;
+					   }
+				   }
+			   } while ((count1 | count2) < gallop);
+			   
+			   do {
+				   count1 = length1 - gallopRight(temp[cursor2], myArray, base1, length1, length1 - 1);
+				   if (count1 != 0) {
+					   dest -= count1;
+					   cursor1 -= count1;
+					   length1 -= count1;
+					   System.arraycopy(myArray, cursor1 + 1, myArray, dest + 1, count1);
+					   if (length1 == 0) {
+						   break outer;
+					   }
+				   }
+				   myArray[dest--] = (T) temp[cursor2--];
+				   if (--length2 == 1) {
+					   break outer;
+				   }
+				   
+				   count2 = length2 - gallopLeft(myArray[cursor1], temp, 0, length2, length2 - 1);
+				   if (count2 != 0) {
+					   dest -= count2;
+					   cursor2 -= count2;
+					   length2 -= count2;
+					   System.arraycopy(temp, cursor2 + 1, myArray, dest + 1, count2);
+					   if (length2 <= 1) {
+						   break outer;
+					   }
+				   }
+				   myArray[dest--] = myArray[cursor1--];
+				   if (--length1 == 0) {
+					   break outer;
+				   }
+				   gallop--;
+			   } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+			   
+			   if (gallop < 0) {
+				   gallop = 0;
+			   }
+			   gallop += 2;
+		   }
+		   minGallop = gallop < 1 ? 1 : gallop;
+		   
+		   if (length2 == 1) {
+			   dest -= length1;
+			   cursor1 -= length1;
+			   System.arraycopy(myArray, cursor1 + 1, myArray, dest + 1, length1);
+			   myArray[dest] = (T) temp[cursor2];
+		   } else if (length2 == 0) {
+			   throw new IllegalArgumentException("Comparison method violates its general contract");
+		   } else {
+			   System.arraycopy(temp, 0, myArray, dest - (length2 - 1), length2);
+		   }
+	   }
+	   
+	   /***
+		 * Returns the shared buffer, growing it if it has fewer than minCapacity slots.
+		 */
+	   private Object[] ensureCapacity(int minCapacity) {
+		   if (buffer.length < minCapacity) {
+			   int newSize = Integer.highestOneBit(minCapacity) << 1;
+			   if (newSize < 0 || newSize > (myArray.length >>> 1)) {
+				   newSize = Math.max(minCapacity, myArray.length >>> 1);
+			   }
+			   buffer = new Object[newSize];
+		   }
+		   return buffer;
+	   }
+   }
+   
+   /***
+	 * Sorts the specified array of objects by a key extracted once per element.
+	 * The keys are stored next to their elements and only the keys are compared,
+	 * so getters and casts are not repeated on every comparison as they are with
+	 * an IComparator. Use a SortKeyBuilder to sort by several fields at once.
+	 * The sort is stable.
+	 * @param myArray List of elements need to be sorted
+	 * @param keyExtractor function that computes the sort key of an element
+	 */
+   @SuppressWarnings("unchecked")
+   public <K extends Comparable<? super K>> void sortBy(T[] myArray, Function<? super T, ? extends K> keyExtractor) {
+	   int length = myArray.length;
+	   if (length < 2) {
+		   return;
+	   }
+	   
+	   K[] keys = (K[]) new Comparable[length];
+	   for (int i = 0; i < length; i++) {
+		   keys[i] = keyExtractor.apply(myArray[i]);
+	   }
+	   
+	   keyMergeSort(keys, myArray, keys.clone(), myArray.clone(), 0, length - 1);
+   }
+   
+   /***
+	 * Sorts the specified array of objects by a long key extracted once per
+	 * element, for example a year or several small fields packed in one long.
+	 * The keys are compared as primitives, without boxing. The sort is stable.
+	 * @param myArray List of elements need to be sorted
+	 * @param keyExtractor function that computes the sort key of an element
+	 */
+   public void sortByLong(T[] myArray, ToLongFunction<? super T> keyExtractor) {
+	   int length = myArray.length;
+	   if (length < 2) {
+		   return;
+	   }
+	   
+	   long[] keys = new long[length];
+	   for (int i = 0; i < length; i++) {
+		   keys[i] = keyExtractor.applyAsLong(myArray[i]);
+	   }
+	   
+	   keyMergeSort(keys, myArray, keys.clone(), myArray.clone(), 0, length - 1);
+   }
+   
+   /***
+	 * Stable merge sort of keys[inf..sup] that moves myArray along with its keys.
+	 */
+   private static <K extends Comparable<? super K>, E> void keyMergeSort(K[] keys, E[] myArray, K[] keyBuffer, E[] buffer, int inf, int sup) {
+	   if (sup - inf < INSERTION_CUTOFF) {
+		   for (int index = inf + 1; index <= sup; index++) {
+			   K key = keys[index];
+			   E value = myArray[index];
+			   int position = index;
+			   while (position > inf && key.compareTo(keys[position - 1]) < 0) {
+				   keys[position] = keys[position - 1];
+				   myArray[position] = myArray[position - 1];
+				   position--;
+			   }
+			   keys[position] = key;
+			   myArray[position] = value;
+		   }
+		   return;
+	   }
+	   
+	   int middle = (inf + sup) >>> 1;
+	   keyMergeSort(keys, myArray, keyBuffer, buffer, inf, middle);
+	   keyMergeSort(keys, myArray, keyBuffer, buffer, middle + 1, sup);
+	   
+	   if (keys[middle].compareTo(keys[middle + 1]) <= 0) {
+		   return;
+	   }
+	   
+	   System.arraycopy(keys, inf, keyBuffer, inf, sup - inf + 1);
+	   System.arraycopy(myArray, inf, buffer, inf, sup - inf + 1);
+	   
+	   int i = inf;
+	   int j = middle + 1;
+	   int k = inf;
+	   while (i <= middle && j <= sup) {
+		   if (keyBuffer[j].compareTo(keyBuffer[i]) < 0) {
+			   keys[k] = keyBuffer[j];
+			   myArray[k++] = buffer[j++];
+		   } else {
+			   keys[k] = keyBuffer[i];
+			   myArray[k++] = buffer[i++];
+		   }
+	   }
+	   while (i <= middle) {
+		   keys[k] = keyBuffer[i];
+		   myArray[k++] = buffer[i++];
+	   }
+   }
+   
+   /***
+	 * Stable merge sort of keys[inf..sup] that moves myArray along with its keys.
+	 */
+   private static <E> void keyMergeSort(long[] keys, E[] myArray, long[] keyBuffer, E[] buffer, int inf, int sup) {
+	   if (sup - inf < INSERTION_CUTOFF) {
+		   for (int index = inf + 1; index <= sup; index++) {
+			   long key = keys[index];
+			   E value = myArray[index];
+			   int position = index;
+			   while (position > inf && key < keys[position - 1]) {
+				   keys[position] = keys[position - 1];
+				   myArray[position] = myArray[position - 1];
+				   position--;
+			   }
+			   keys[position] = key;
+			   myArray[position] = value;
+		   }
+		   return;
+	   }
+	   
+	   int middle = (inf + sup) >>> 1;
+	   keyMergeSort(keys, myArray, keyBuffer, buffer, inf, middle);
+	   keyMergeSort(keys, myArray, keyBuffer, buffer, middle + 1, sup);
+	   
+	   if (keys[middle] <= keys[middle + 1]) {
+		   return;
+	   }
+	   
+	   System.arraycopy(keys, inf, keyBuffer, inf, sup - inf + 1);
+	   System.arraycopy(myArray, inf, buffer, inf, sup - inf + 1);
+	   
+	   int i = inf;
+	   int j = middle + 1;
+	   int k = inf;
+	   while (i <= middle && j <= sup) {
+		   if (keyBuffer[j] < keyBuffer[i]) {
+			   keys[k] = keyBuffer[j];
+			   myArray[k++] = buffer[j++];
+		   } else {
+			   keys[k] = keyBuffer[i];
+			   myArray[k++] = buffer[i++];
+		   }
+	   }
+	   while (i <= middle) {
+		   keys[k] = keyBuffer[i];
+		   myArray[k++] = buffer[i++];
+	   }
+   }
 }
@@ -0,0 +1,48 @@
+/**
+ * 
+ */
+package common;
+
+import java.util.Arrays;
+
+/**
+ * Normalized sort key built by SortKeyBuilder. The fields of the key are
+ * already encoded so that comparing two keys is a plain unsigned byte by byte
+ * comparison, no matter how many fields or which types were combined.
+ * 
+ * @author moise
+ *
+ */
+public final class SortKey implements Comparable<SortKey> {
+	
+	private final byte[] bytes;
+	
+	SortKey(byte[] _bytes) {
+		bytes = _bytes;
+	}
+
+	@Override
+	public int compareTo(SortKey other) {
+		byte[] otherBytes = other.bytes;
+		int length = Math.min(bytes.length, otherBytes.length);
+		
+		for (int i = 0; i < length; i++) {
+			int result = (bytes[i] & 0xFF) - (otherBytes[i] & 0xFF);
+			if (result != 0) {
+				return result;
+			}
+		}
+		
+		return bytes.length - otherBytes.length;
+	}
+	
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof SortKey && Arrays.equals(bytes, ((SortKey) other).bytes);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(bytes);
+	}
+}
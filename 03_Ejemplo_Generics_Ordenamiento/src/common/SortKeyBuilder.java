@@ -0,0 +1,123 @@
+/**
+ * 
+ */
+package common;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Builds composite sort keys for Sort.sortBy. Each then* call adds a field to
+ * the key; elements are ordered by the first field, ties by the second one and
+ * so on, as a multi-key IComparator would do. For example, the order of
+ * CompareByBrandLineAsc is
+ * 
+ * new SortKeyBuilder&lt;Automovil&gt;().thenString(Automovil::getMarca).thenString(Automovil::getLinea)
+ * 
+ * Every field is read and encoded only once per element, when the key is built.
+ * 
+ * @author moise
+ *
+ */
+public class SortKeyBuilder<T> implements Function<T, SortKey> {
+	
+	/**
+	 * Writes one field of an element into the key bytes.
+	 */
+	private interface IKeyField<T> {
+		public void write(T element, ByteArrayOutputStream key);
+	}
+	
+	private final List<IKeyField<T>> fields = new ArrayList<IKeyField<T>>();
+	
+	/**
+	 * Adds an int field in ascending order.
+	 */
+	public SortKeyBuilder<T> thenInt(ToIntFunction<? super T> field) {
+		fields.add((element, key) -> writeInt(key, field.applyAsInt(element) ^ Integer.MIN_VALUE));
+		return this;
+	}
+	
+	/**
+	 * Adds an int field in descending order.
+	 */
+	public SortKeyBuilder<T> thenIntDescending(ToIntFunction<? super T> field) {
+		fields.add((element, key) -> writeInt(key, ~(field.applyAsInt(element) ^ Integer.MIN_VALUE)));
+		return this;
+	}
+	
+	/**
+	 * Adds a long field in ascending order.
+	 */
+	public SortKeyBuilder<T> thenLong(ToLongFunction<? super T> field) {
+		fields.add((element, key) -> writeLong(key, field.applyAsLong(element) ^ Long.MIN_VALUE));
+		return this;
+	}
+	
+	/**
+	 * Adds a double field in ascending order, using the order of Double.compare.
+	 */
+	public SortKeyBuilder<T> thenDouble(ToDoubleFunction<? super T> field) {
+		fields.add((element, key) -> {
+			long bits = Double.doubleToLongBits(field.applyAsDouble(element));
+			//Negative values have every bit flipped, positive values only the sign bit
+			writeLong(key, bits ^ ((bits >> 63) | Long.MIN_VALUE));
+		});
+		return this;
+	}
+	
+	/**
+	 * Adds a String field in ascending order, using the order of String.compareTo.
+	 */
+	public SortKeyBuilder<T> thenString(Function<? super T, String> field) {
+		fields.add((element, key) -> {
+			String value = field.apply(element);
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				writeEscaped(key, c >>> 8);
+				writeEscaped(key, c & 0xFF);
+			}
+			//Terminator: sorts before any escaped byte so prefixes go first
+			key.write(0);
+			key.write(0);
+		});
+		return this;
+	}
+	
+	@Override
+	public SortKey apply(T element) {
+		ByteArrayOutputStream key = new ByteArrayOutputStream(16 * fields.size());
+		for (IKeyField<T> field : fields) {
+			field.write(element, key);
+		}
+		return new SortKey(key.toByteArray());
+	}
+	
+	private static void writeInt(ByteArrayOutputStream key, int value) {
+		key.write(value >>> 24);
+		key.write(value >>> 16);
+		key.write(value >>> 8);
+		key.write(value);
+	}
+	
+	private static void writeLong(ByteArrayOutputStream key, long value) {
+		writeInt(key, (int) (value >>> 32));
+		writeInt(key, (int) value);
+	}
+	
+	/**
+	 * Zero bytes inside a string are written as 0x00 0xFF so they can not be
+	 * confused with the 0x00 0x00 terminator.
+	 */
+	private static void writeEscaped(ByteArrayOutputStream key, int value) {
+		key.write(value);
+		if (value == 0) {
+			key.write(0xFF);
+		}
+	}
+}
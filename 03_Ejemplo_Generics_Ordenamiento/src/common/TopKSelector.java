@@ -0,0 +1,132 @@
+/**
+ * 
+ */
+package common;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Keeps the k smallest elements of a stream of elements, for example the 10
+ * best grades of a list that is read one student at a time. The kept elements
+ * are stored in a bounded max-heap whose root is the largest one kept, so each
+ * offer costs O(log k) and the memory used never exceeds k elements.
+ * 
+ * @author moise
+ *
+ */
+public class TopKSelector<T> {
+	
+	private final IComparator<? super T> myCompare;
+	private final Object[] heap;
+	private int count;
+	
+	/**
+	 * Creates a selector for the k smallest elements according to an IComparator.
+	 * @param _Compare comparator used to order the elements
+	 * @param k number of elements to keep
+	 */
+	public TopKSelector(IComparator<? super T> _Compare, int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative");
+		}
+		myCompare = _Compare;
+		heap = new Object[k];
+		count = 0;
+	}
+	
+	/**
+	 * Creates a selector for the k smallest elements according to a java.util.Comparator.
+	 * @param _Compare comparator used to order the elements
+	 * @param k number of elements to keep
+	 */
+	public static <T> TopKSelector<T> of(Comparator<? super T> _Compare, int k) {
+		return new TopKSelector<T>(_Compare::compare, k);
+	}
+	
+	/**
+	 * Offers an element to the selector.
+	 * @param value element to offer
+	 * @return true if the element is kept among the k smallest
+	 */
+	public boolean offer(T value) {
+		if (count < heap.length) {
+			heap[count] = value;
+			siftUp(count++);
+			return true;
+		}
+		
+		if (count == 0 || myCompare.Compare(value, elementAt(0)) >= 0) {
+			return false;
+		}
+		
+		heap[0] = value; //Replaces the largest kept element
+		siftDown(0);
+		return true;
+	}
+	
+	/**
+	 * Returns the number of elements kept, at most k.
+	 */
+	public int size() {
+		return count;
+	}
+	
+	/**
+	 * Returns the largest of the kept elements, the one an offer has to beat
+	 * once k elements have been kept, or null if no element has been kept.
+	 */
+	public T peek() {
+		return count == 0 ? null : elementAt(0);
+	}
+	
+	/**
+	 * Returns a new array with the kept elements in ascending order.
+	 * @param type any array of the element type, for example new Estudiante[0];
+	 * it is only used to create the result with the right type
+	 */
+	public T[] toSortedArray(T[] type) {
+		T[] result = Arrays.copyOf(type, count);
+		System.arraycopy(heap, 0, result, 0, count);
+		new Sort<T>(myCompare).introSort(result);
+		return result;
+	}
+	
+	private void siftUp(int index) {
+		T value = elementAt(index);
+		
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (myCompare.Compare(value, elementAt(parent)) <= 0) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		
+		heap[index] = value;
+	}
+	
+	private void siftDown(int index) {
+		T value = elementAt(index);
+		int child;
+		
+		while ((child = 2 * index + 1) < count) {
+			if (child + 1 < count && myCompare.Compare(elementAt(child), elementAt(child + 1)) < 0) {
+				child++;
+			}
+			if (myCompare.Compare(value, elementAt(child)) >= 0) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		
+		heap[index] = value;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private T elementAt(int index) {
+		return (T) heap[index];
+	}
+}
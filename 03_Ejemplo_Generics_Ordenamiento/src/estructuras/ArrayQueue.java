@@ -0,0 +1,104 @@
+/**
+ *
+ */
+package estructuras;
+
+/**
+ * Queue stored in a circular array whose length is a power of two, so the
+ * positions wrap around with a mask. The array doubles when it is full and
+ * dequeue clears the slot it leaves, so the queue does not keep references to
+ * values that were already removed.
+ *
+ * @author moise
+ *
+ */
+public class ArrayQueue<E> implements IQueue<E> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	private int head; //position of the head of the queue
+	private int count;
+
+	public ArrayQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty queue with room for at least initialCapacity elements
+	 * before growing.
+	 */
+	public ArrayQueue(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		int capacity = Integer.highestOneBit(Math.max(initialCapacity, 1));
+		if (capacity < initialCapacity) {
+			capacity <<= 1;
+		}
+		elements = new Object[capacity];
+		head = 0;
+		count = 0;
+	}
+
+	@Override
+	public void enqueue(E value) {
+		if (count == elements.length) {
+			grow();
+		}
+		elements[(head + count) & (elements.length - 1)] = value;
+		count++;
+	}
+
+	/**
+	 * Returns null when the queue is empty.
+	 */
+	@Override
+	public E dequeue() {
+		if (count == 0) {
+			return null;
+		}
+		E value = elementAt(head);
+		elements[head] = null;
+		head = (head + 1) & (elements.length - 1);
+		count--;
+		return value;
+	}
+
+	/**
+	 * Returns null when the queue is empty.
+	 */
+	@Override
+	public E peek() {
+		return (count == 0) ? null : elementAt(head);
+	}
+
+	@Override
+	public boolean empty() {
+		return count == 0;
+	}
+
+	@Override
+	public int size() {
+		return count;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E elementAt(int position) {
+		return (E) elements[position];
+	}
+
+	private void grow() {
+		int capacity = elements.length << 1;
+		if (capacity < 0) {
+			throw new IllegalStateException("Queue too big");
+		}
+		Object[] newElements = new Object[capacity];
+		int firstPart = elements.length - head;
+		System.arraycopy(elements, head, newElements, 0, firstPart);
+		System.arraycopy(elements, 0, newElements, firstPart, head);
+		elements = newElements;
+		head = 0;
+	}
+
+}
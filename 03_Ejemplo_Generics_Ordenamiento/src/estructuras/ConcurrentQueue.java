@@ -0,0 +1,132 @@
+/**
+ *
+ */
+package estructuras;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread safe queue without locks (Michael-Scott queue). It is a linked list
+ * that starts with a dummy node; head points to the dummy and tail to the
+ * last node or, for a moment, to the one before it. Enqueue links the new
+ * node with compareAndSet on the next of the last node and then moves tail;
+ * any thread that finds tail behind moves it forward before continuing, so
+ * a thread that stops halfway does not block the others.
+ *
+ * @author moise
+ *
+ */
+public class ConcurrentQueue<E> implements IQueue<E> {
+
+	private final AtomicReference<QueueNode<E>> head;
+	private final AtomicReference<QueueNode<E>> tail;
+
+	public ConcurrentQueue() {
+		QueueNode<E> dummy = new QueueNode<E>(null);
+		head = new AtomicReference<QueueNode<E>>(dummy);
+		tail = new AtomicReference<QueueNode<E>>(dummy);
+	}
+
+	/**
+	 * The value can not be null, null is what dequeue returns when the queue
+	 * is empty.
+	 */
+	@Override
+	public void enqueue(E value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		QueueNode<E> newNode = new QueueNode<E>(value);
+		while (true) {
+			QueueNode<E> last = tail.get();
+			QueueNode<E> next = last.next.get();
+			if (last != tail.get()) {
+				continue; //tail moved, read it again
+			}
+			if (next == null) {
+				if (last.next.compareAndSet(null, newNode)) {
+					tail.compareAndSet(last, newNode); //may fail if another thread already moved it
+					return;
+				}
+			} else {
+				tail.compareAndSet(last, next); //help the enqueue that did not move tail yet
+			}
+		}
+	}
+
+	/**
+	 * Returns null when the queue is empty.
+	 */
+	@Override
+	public E dequeue() {
+		while (true) {
+			QueueNode<E> first = head.get();
+			QueueNode<E> last = tail.get();
+			QueueNode<E> next = first.next.get();
+			if (first != head.get()) {
+				continue;
+			}
+			if (next == null) {
+				return null;
+			}
+			if (first == last) {
+				tail.compareAndSet(last, next); //tail is behind, help before removing
+				continue;
+			}
+			E value = next.value;
+			if (head.compareAndSet(first, next)) {
+				next.value = null; //next is the new dummy, release the value
+				return value;
+			}
+		}
+	}
+
+	/**
+	 * Returns null when the queue is empty.
+	 */
+	@Override
+	public E peek() {
+		while (true) {
+			QueueNode<E> first = head.get();
+			QueueNode<E> next = first.next.get();
+			if (next == null) {
+				return null;
+			}
+			E value = next.value;
+			if (first == head.get()) { //next was not dequeued while reading it
+				return value;
+			}
+		}
+	}
+
+	@Override
+	public boolean empty() {
+		return head.get().next.get() == null;
+	}
+
+	/**
+	 * Counts the nodes, O(n). With other threads working on the queue the
+	 * result is only an estimate.
+	 */
+	@Override
+	public int size() {
+		int count = 0;
+		for (QueueNode<E> node = head.get().next.get(); node != null; node = node.next.get()) {
+			if (node.value != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static final class QueueNode<E> {
+
+		private volatile E value;
+		private final AtomicReference<QueueNode<E>> next = new AtomicReference<QueueNode<E>>();
+
+		QueueNode(E value) {
+			this.value = value;
+		}
+	}
+
+}
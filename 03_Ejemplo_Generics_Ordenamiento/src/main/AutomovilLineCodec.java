@@ -0,0 +1,61 @@
+/**
+ * 
+ */
+package main;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import common.IRecordSerializer;
+
+/**
+ * Stores one Automovil per line as comma separated values:
+ * marca,linea,anio_fabricacion,cantidad_gasolina
+ * Marca and linea must not contain commas.
+ * 
+ * @author moise
+ *
+ */
+public class AutomovilLineCodec implements IRecordSerializer<Automovil> {
+	
+	private static final String SEPARATOR = ",";
+
+	@Override
+	public Automovil read(BufferedReader reader) throws IOException {
+		String line = reader.readLine();
+		
+		while (line != null && line.trim().equals("")) {
+			line = reader.readLine();
+		}
+		
+		if (line == null) {
+			return null;
+		}
+		
+		String[] fields = line.split(SEPARATOR, -1);
+		if (fields.length != 4) {
+			throw new IOException("Invalid Automovil record: " + line);
+		}
+		
+		try {
+			return new Automovil(fields[0], fields[1], Integer.parseInt(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+		} catch (NumberFormatException e) {
+			throw new IOException("Invalid Automovil record: " + line, e);
+		}
+	}
+
+	@Override
+	public void write(BufferedWriter writer, Automovil record) throws IOException {
+		//Automovil leaves marca and linea null when they are read as empty fields
+		writer.write(record.getMarca() != null ? record.getMarca() : "");
+		writer.write(SEPARATOR);
+		writer.write(record.getLinea() != null ? record.getLinea() : "");
+		writer.write(SEPARATOR);
+		writer.write(Integer.toString(record.getAnio_Fabricacion()));
+		writer.write(SEPARATOR);
+		writer.write(Double.toString(record.getCantidadGasolinaActual()));
+		writer.newLine();
+	}
+
+}
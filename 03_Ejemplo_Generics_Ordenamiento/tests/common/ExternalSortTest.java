@@ -0,0 +1,135 @@
+/**
+ * 
+ */
+package common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author moise
+ *
+ */
+class ExternalSortTest {
+
+	/**
+	 * Record "key,order": order is the line of the record in the input, so the
+	 * output shows whether equal keys kept their order.
+	 */
+	private static class LineSerializer implements IRecordSerializer<int[]> {
+		int failAfter = Integer.MAX_VALUE; //records read before read throws
+
+		@Override
+		public int[] read(BufferedReader reader) throws IOException {
+			String line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+			if (failAfter-- == 0) {
+				throw new IOException("Invalid record: " + line);
+			}
+			String[] fields = line.split(",");
+			return new int[] { Integer.parseInt(fields[0]), Integer.parseInt(fields[1]) };
+		}
+
+		@Override
+		public void write(BufferedWriter writer, int[] record) throws IOException {
+			writer.write(record[0] + "," + record[1]);
+			writer.newLine();
+		}
+	}
+
+	private static final IComparator<int[]> BY_KEY = (a, b) -> Integer.compare(a[0], b[0]);
+
+	@TempDir
+	File folder;
+
+	@Test
+	void SeveralRunsAndPassesTest() throws IOException {
+		File runs = new File(folder, "runs");
+		assertTrue(runs.mkdir());
+		File input = writeInput(5000, 100);
+		File output = new File(folder, "output.txt");
+		
+		//500 runs merged 4 at a time need several passes
+		new ExternalSort<int[]>(BY_KEY, new LineSerializer(), 10, 4, runs).sort(input, output);
+		
+		List<String> lines = Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+		assertEquals(5000, lines.size());
+		boolean[] seen = new boolean[5000];
+		for (int i = 0; i < lines.size(); i++) {
+			String[] fields = lines.get(i).split(",");
+			int order = Integer.parseInt(fields[1]);
+			assertFalse(seen[order]);
+			seen[order] = true;
+			if (i > 0) {
+				String[] previous = lines.get(i - 1).split(",");
+				int keyOrder = Integer.compare(Integer.parseInt(previous[0]), Integer.parseInt(fields[0]));
+				assertTrue(keyOrder < 0 || (keyOrder == 0 && Integer.parseInt(previous[1]) < order));
+			}
+		}
+		assertEquals(0, runs.list().length);
+	}
+
+	@Test
+	void SmallInputTest() throws IOException {
+		File runs = new File(folder, "runs");
+		assertTrue(runs.mkdir());
+		File empty = writeInput(0, 1);
+		File output = new File(folder, "output.txt");
+		
+		new ExternalSort<int[]>(BY_KEY, new LineSerializer(), 10, 4, runs).sort(empty, output);
+		assertEquals(0, output.length());
+		
+		File single = writeInput(7, 3);
+		new ExternalSort<int[]>(BY_KEY, new LineSerializer(), 10, 4, runs).sort(single, output);
+		assertEquals(7, Files.readAllLines(output.toPath(), StandardCharsets.UTF_8).size());
+		assertEquals(0, runs.list().length);
+	}
+
+	@Test
+	void FailedSortDeletesRunsTest() throws IOException {
+		File runs = new File(folder, "runs");
+		assertTrue(runs.mkdir());
+		File input = writeInput(1000, 50);
+		File output = new File(folder, "output.txt");
+		
+		//Fails while the runs are created and while they are merged
+		for (int failAfter : new int[] { 500, 1300, 1900 }) {
+			LineSerializer serializer = new LineSerializer();
+			serializer.failAfter = failAfter;
+			assertThrows(IOException.class, () -> new ExternalSort<int[]>(BY_KEY, serializer, 10, 4, runs).sort(input, output));
+			assertEquals(0, runs.list().length);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new ExternalSort<int[]>(BY_KEY, new LineSerializer(), 0));
+		assertThrows(IllegalArgumentException.class, () -> new ExternalSort<int[]>(BY_KEY, new LineSerializer(), 10, 1, runs));
+	}
+
+	/**
+	 * Writes length records with random keys between 0 and keys - 1.
+	 */
+	private File writeInput(int length, int keys) throws IOException {
+		Random random = new Random(length);
+		List<String> lines = new ArrayList<String>();
+		for (int i = 0; i < length; i++) {
+			lines.add(random.nextInt(keys) + "," + i);
+		}
+		File input = File.createTempFile("input-", ".txt", folder);
+		Files.write(input.toPath(), lines, StandardCharsets.UTF_8);
+		return input;
+	}
+
+}
@@ -0,0 +1,119 @@
+/**
+ * 
+ */
+package common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author moise
+ *
+ */
+class SortKeyBuilderTest {
+
+	private static final int[] INTS = { Integer.MIN_VALUE, -1000000, -2, -1, 0, 1, 2, 1000000, Integer.MAX_VALUE };
+	private static final long[] LONGS = { Long.MIN_VALUE, -1L << 40, -1, 0, 1, 1L << 40, Long.MAX_VALUE };
+	private static final double[] DOUBLES = { Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+			Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN };
+
+	@Test
+	void IntOrderTest() {
+		SortKeyBuilder<Integer> ascending = new SortKeyBuilder<Integer>().thenInt(Integer::intValue);
+		SortKeyBuilder<Integer> descending = new SortKeyBuilder<Integer>().thenIntDescending(Integer::intValue);
+		Random random = new Random(1);
+		
+		for (int i = 0; i < 20000; i++) {
+			int a = (i < INTS.length * INTS.length) ? INTS[i / INTS.length] : random.nextInt();
+			int b = (i < INTS.length * INTS.length) ? INTS[i % INTS.length] : random.nextInt();
+			assertEquals(Integer.signum(Integer.compare(a, b)), Integer.signum(ascending.apply(a).compareTo(ascending.apply(b))));
+			assertEquals(Integer.signum(Integer.compare(b, a)), Integer.signum(descending.apply(a).compareTo(descending.apply(b))));
+		}
+	}
+
+	@Test
+	void LongOrderTest() {
+		SortKeyBuilder<Long> builder = new SortKeyBuilder<Long>().thenLong(Long::longValue);
+		Random random = new Random(2);
+		
+		for (int i = 0; i < 20000; i++) {
+			long a = (i < LONGS.length * LONGS.length) ? LONGS[i / LONGS.length] : random.nextLong();
+			long b = (i < LONGS.length * LONGS.length) ? LONGS[i % LONGS.length] : random.nextLong();
+			assertEquals(Integer.signum(Long.compare(a, b)), Integer.signum(builder.apply(a).compareTo(builder.apply(b))));
+		}
+	}
+
+	@Test
+	void DoubleOrderTest() {
+		SortKeyBuilder<Double> builder = new SortKeyBuilder<Double>().thenDouble(Double::doubleValue);
+		Random random = new Random(3);
+		
+		//Same order as Double.compare: -0.0 before 0.0 and NaN after everything
+		for (int i = 0; i < 20000; i++) {
+			double a = (i < DOUBLES.length * DOUBLES.length) ? DOUBLES[i / DOUBLES.length] : random.nextGaussian() * 1000;
+			double b = (i < DOUBLES.length * DOUBLES.length) ? DOUBLES[i % DOUBLES.length] : random.nextGaussian() * 1000;
+			assertEquals(Integer.signum(Double.compare(a, b)), Integer.signum(builder.apply(a).compareTo(builder.apply(b))));
+		}
+	}
+
+	@Test
+	void StringOrderTest() {
+		SortKeyBuilder<String> builder = new SortKeyBuilder<String>().thenString(s -> s);
+		String[] values = { "", "\0", "\0\0", "\0a", "a", "a\0", "ab", "b", "\u0100", "\u00ff", "\uffff", "Z" };
+		
+		for (String a : values) {
+			for (String b : values) {
+				assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(builder.apply(a).compareTo(builder.apply(b))), a + " " + b);
+			}
+		}
+	}
+
+	@Test
+	void SeveralFieldsTest() {
+		//A string first: its terminator keeps "a" + anything before "ab" + anything
+		SortKeyBuilder<Object[]> builder = new SortKeyBuilder<Object[]>()
+				.thenString(r -> (String) r[0])
+				.thenIntDescending(r -> (Integer) r[1])
+				.thenDouble(r -> (Double) r[2]);
+		Object[][] ordered = {
+				{ "a", 5, -1.0 },
+				{ "a", 5, 2.0 },
+				{ "a", -3, -7.5 },
+				{ "ab", 100, 0.0 },
+				{ "b", Integer.MIN_VALUE, Double.NaN },
+		};
+		
+		for (int i = 0; i < ordered.length; i++) {
+			for (int j = 0; j < ordered.length; j++) {
+				assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(builder.apply(ordered[i]).compareTo(builder.apply(ordered[j]))));
+			}
+		}
+		assertEquals(builder.apply(ordered[2]), builder.apply(new Object[] { "a", -3, -7.5 }));
+	}
+
+	@Test
+	void SortByTest() {
+		Random random = new Random(4);
+		int[][] myArray = new int[10000][];
+		for (int i = 0; i < myArray.length; i++) {
+			myArray[i] = new int[] { random.nextInt(21) - 10, random.nextInt(3) - 1, i };
+		}
+		int[][] byLong = myArray.clone();
+		
+		//First field ascending, second descending, equal keys keep their order
+		Sort<int[]> mySort = new Sort<int[]>((a, b) -> 0);
+		mySort.sortBy(myArray, new SortKeyBuilder<int[]>().thenInt(r -> r[0]).thenIntDescending(r -> r[1]));
+		mySort.sortByLong(byLong, r -> ((long) r[0] << 32) - r[1]);
+		
+		for (int i = 1; i < myArray.length; i++) {
+			int[] a = myArray[i - 1];
+			int[] b = myArray[i];
+			assertTrue(a[0] < b[0] || (a[0] == b[0] && (a[1] > b[1] || (a[1] == b[1] && a[2] < b[2]))));
+			assertSame(myArray[i], byLong[i]);
+		}
+	}
+
+}
@@ -0,0 +1,203 @@
+/**
+ * 
+ */
+package common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author moise
+ *
+ */
+class SortTest {
+
+	/**
+	 * Element with a key used to sort it and its position in the input, used
+	 * to check that equal keys keep their order.
+	 */
+	private static class Item {
+		final int key;
+		final int order;
+
+		Item(int key, int order) {
+			this.key = key;
+			this.order = order;
+		}
+	}
+
+	private static final IComparator<Item> BY_KEY = (a, b) -> Integer.compare(a.key, b.key);
+	
+	private static final IComparator<Integer> INTEGERS = (a, b) -> Integer.compare(a, b);
+
+	@Test
+	void ParallelMergeSortIsStableTest() {
+		//Shorter and longer than the parallel cutoff, few and many equal keys
+		for (int length : new int[] { 0, 1, 31, 1000, 8192, 8193, 100000 }) {
+			for (int keys : new int[] { 1, 10, 1000 }) {
+				Item[] myArray = items(length, keys, length + keys);
+				new Sort<Item>(BY_KEY).parallelMergeSort(myArray);
+				assertStable(myArray, length);
+			}
+		}
+	}
+
+	@Test
+	void ParallelMergeSortWithParallelismTest() {
+		for (int parallelism : new int[] { 1, 2, 3, Runtime.getRuntime().availableProcessors() + 1 }) {
+			Item[] myArray = items(50000, 100, parallelism);
+			new Sort<Item>(BY_KEY).parallelMergeSort(myArray, parallelism);
+			assertStable(myArray, 50000);
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> new Sort<Item>(BY_KEY).parallelMergeSort(new Item[0], 0));
+	}
+
+	@Test
+	void AdaptiveMergeSortIsStableTest() {
+		for (int length : new int[] { 0, 1, 2, 31, 32, 33, 1000, 100000 }) {
+			for (int keys : new int[] { 1, 10, 1000 }) {
+				Item[] myArray = items(length, keys, length + keys);
+				new Sort<Item>(BY_KEY).adaptiveMergeSort(myArray);
+				assertStable(myArray, length);
+			}
+		}
+	}
+
+	@Test
+	void AdaptiveMergeSortRunsTest() {
+		int length = 20000;
+		Random random = new Random(17);
+		Item[][] inputs = new Item[5][length];
+		for (int i = 0; i < length; i++) {
+			inputs[0][i] = new Item(i / 3, i); //ascending with equal neighbours
+			inputs[1][i] = new Item((length - i) / 3, i); //descending with equal neighbours
+			inputs[2][i] = new Item((i < length - 100) ? i : random.nextInt(length), i); //sorted with a random tail
+			inputs[3][i] = new Item(i % 500, i); //sawtooth of ascending runs
+			inputs[4][i] = new Item((i / 250) % 2 == 0 ? i % 250 : 250 - i % 250, i); //ascending and descending runs
+		}
+		
+		for (Item[] myArray : inputs) {
+			new Sort<Item>(BY_KEY).adaptiveMergeSort(myArray);
+			assertStable(myArray, length);
+		}
+	}
+
+	@Test
+	void IntroSortTest() {
+		for (int length : new int[] { 0, 1, 2, 31, 32, 33, 128, 129, 1000, 100000 }) {
+			for (Integer[] myArray : inputs(length)) {
+				Integer[] expected = myArray.clone();
+				Arrays.sort(expected);
+				new Sort<Integer>(INTEGERS).introSort(myArray);
+				assertArrayEquals(expected, myArray);
+			}
+		}
+	}
+
+	@Test
+	void NthElementTest() {
+		Sort<Integer> mySort = new Sort<Integer>(INTEGERS);
+		Random random = new Random(19);
+		
+		for (int length : new int[] { 1, 2, 33, 129, 1000, 20000 }) {
+			for (Integer[] input : inputs(length)) {
+				Integer[] sorted = input.clone();
+				Arrays.sort(sorted);
+				
+				for (int n : new int[] { 0, length / 2, length - 1, random.nextInt(length) }) {
+					Integer[] myArray = input.clone();
+					assertEquals(sorted[n], mySort.nthElement(myArray, n));
+					for (int i = 0; i < length; i++) {
+						assertTrue(i > n || myArray[i] <= sorted[n]);
+						assertTrue(i < n || myArray[i] >= sorted[n]);
+					}
+					Arrays.sort(myArray);
+					assertArrayEquals(sorted, myArray);
+				}
+			}
+		}
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> mySort.nthElement(new Integer[3], 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> mySort.nthElement(new Integer[3], -1));
+	}
+
+	@Test
+	void PartialSortAndSelectTopKTest() {
+		Sort<Integer> mySort = Sort.of(Integer::compare);
+		
+		for (int length : new int[] { 0, 1, 33, 1000, 20000 }) {
+			for (Integer[] input : inputs(length)) {
+				Integer[] sorted = input.clone();
+				Arrays.sort(sorted);
+				
+				for (int k : new int[] { 0, 1, 10, length / 2, length, length + 5 }) {
+					int kept = Math.max(0, Math.min(k, length));
+					Integer[] myArray = input.clone();
+					mySort.partialSort(myArray, k);
+					assertArrayEquals(Arrays.copyOf(sorted, kept), Arrays.copyOf(myArray, kept));
+					Arrays.sort(myArray);
+					assertArrayEquals(sorted, myArray);
+					
+					Integer[] unchanged = input.clone();
+					assertArrayEquals(Arrays.copyOf(sorted, kept), mySort.selectTopK(unchanged, k));
+					assertArrayEquals(input, unchanged);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Inputs that make a plain quicksort quadratic: sorted, reversed, few
+	 * distinct values, all equal and organ pipe, plus a random one.
+	 */
+	private static Integer[][] inputs(int length) {
+		Random random = new Random(length);
+		Integer[][] result = new Integer[6][length];
+		for (int i = 0; i < length; i++) {
+			result[0][i] = i;
+			result[1][i] = length - i;
+			result[2][i] = random.nextInt(4);
+			result[3][i] = 7;
+			result[4][i] = Math.min(i, length - i);
+			result[5][i] = random.nextInt();
+		}
+		return result;
+	}
+
+	/**
+	 * Items with random keys between 0 and keys - 1, numbered in input order.
+	 */
+	private static Item[] items(int length, int keys, long seed) {
+		Random random = new Random(seed);
+		Item[] myArray = new Item[length];
+		for (int i = 0; i < length; i++) {
+			myArray[i] = new Item(random.nextInt(keys), i);
+		}
+		return myArray;
+	}
+
+	/**
+	 * Checks that every item is there once, the keys are in order and equal
+	 * keys kept their input order.
+	 */
+	private static void assertStable(Item[] myArray, int length) {
+		assertEquals(length, myArray.length);
+		boolean[] seen = new boolean[length];
+		for (int i = 0; i < length; i++) {
+			assertFalse(seen[myArray[i].order]);
+			seen[myArray[i].order] = true;
+			if (i > 0) {
+				assertTrue(myArray[i - 1].key <= myArray[i].key);
+				if (myArray[i - 1].key == myArray[i].key) {
+					assertTrue(myArray[i - 1].order < myArray[i].order);
+				}
+			}
+		}
+	}
+
+}
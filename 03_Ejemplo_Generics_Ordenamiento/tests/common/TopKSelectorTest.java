@@ -0,0 +1,64 @@
+/**
+ * 
+ */
+package common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author moise
+ *
+ */
+class TopKSelectorTest {
+
+	@Test
+	void SmallestKTest() {
+		TopKSelector<Integer> selector = new TopKSelector<Integer>((a, b) -> Integer.compare(a, b), 3);
+		assertNull(selector.peek());
+		assertEquals(0, selector.toSortedArray(new Integer[0]).length);
+		
+		assertTrue(selector.offer(50));
+		assertTrue(selector.offer(10));
+		assertTrue(selector.offer(40));
+		assertEquals(50, (int) selector.peek());
+		assertFalse(selector.offer(60));
+		assertFalse(selector.offer(50)); //an equal element does not replace the kept one
+		assertTrue(selector.offer(5));
+		assertEquals(40, (int) selector.peek());
+		assertEquals(3, selector.size());
+		assertArrayEquals(new Integer[] { 5, 10, 40 }, selector.toSortedArray(new Integer[0]));
+	}
+
+	@Test
+	void SameAsSortedCopyTest() {
+		Random random = new Random(23);
+		
+		for (int k : new int[] { 0, 1, 7, 100, 5000 }) {
+			Integer[] stream = new Integer[2000];
+			for (int i = 0; i < stream.length; i++) {
+				stream[i] = random.nextInt(500) - 250;
+			}
+			
+			//The k best grades come from a comparator that puts the largest first
+			TopKSelector<Integer> selector = TopKSelector.of(Comparator.<Integer>reverseOrder(), k);
+			for (Integer value : stream) {
+				selector.offer(value);
+			}
+			
+			Integer[] sorted = stream.clone();
+			Arrays.sort(sorted, Comparator.reverseOrder());
+			int kept = Math.min(k, stream.length);
+			assertEquals(kept, selector.size());
+			assertArrayEquals(Arrays.copyOf(sorted, kept), selector.toSortedArray(new Integer[0]));
+		}
+		
+		assertThrows(IllegalArgumentException.class, () -> TopKSelector.of(Comparator.<Integer>naturalOrder(), -1));
+	}
+
+}
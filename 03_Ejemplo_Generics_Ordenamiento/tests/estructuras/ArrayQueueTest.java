@@ -0,0 +1,129 @@
+/**
+ * 
+ */
+package estructuras;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author moise
+ *
+ */
+class ArrayQueueTest {
+
+	@Test
+	void EmptyQueueTest() {
+		ArrayQueue<String> queue = new ArrayQueue<String>();
+		assertTrue(queue.empty());
+		assertEquals(0, queue.size());
+		assertNull(queue.dequeue());
+		assertNull(queue.peek());
+		
+		queue.enqueue("uno");
+		assertEquals("uno", queue.peek());
+		assertEquals("uno", queue.dequeue());
+		assertTrue(queue.empty());
+		assertNull(queue.dequeue());
+		assertNull(queue.peek());
+		
+		assertThrows(IllegalArgumentException.class, () -> new ArrayQueue<String>(-1));
+	}
+
+	@Test
+	void WrapAroundTest() throws Exception {
+		ArrayQueue<Integer> queue = new ArrayQueue<Integer>(4);
+		int next = 0;
+		int expected = 0;
+		
+		//The head goes around the array several times without growing it
+		for (int round = 0; round < 10; round++) {
+			while (queue.size() < 4) {
+				queue.enqueue(next++);
+			}
+			assertEquals(expected, (int) queue.peek());
+			assertEquals(expected++, (int) queue.dequeue());
+			assertEquals(expected++, (int) queue.dequeue());
+			assertEquals(expected++, (int) queue.dequeue());
+		}
+		assertEquals(4, elements(queue).length);
+		
+		while (!queue.empty()) {
+			assertEquals(expected++, (int) queue.dequeue());
+		}
+		assertEquals(next, expected);
+	}
+
+	@Test
+	void GrowWhileWrappedTest() throws Exception {
+		ArrayQueue<Integer> queue = new ArrayQueue<Integer>(4);
+		queue.enqueue(0);
+		queue.enqueue(1);
+		queue.enqueue(2);
+		assertEquals(0, (int) queue.dequeue());
+		assertEquals(1, (int) queue.dequeue());
+		
+		//The values wrap around the end of the array when it grows
+		for (int i = 3; i < 20; i++) {
+			queue.enqueue(i);
+		}
+		assertEquals(18, queue.size());
+		assertEquals(32, elements(queue).length);
+		for (int i = 2; i < 20; i++) {
+			assertEquals(i, (int) queue.dequeue());
+		}
+		assertTrue(queue.empty());
+	}
+
+	@Test
+	void DequeueClearsSlotTest() throws Exception {
+		ArrayQueue<String> queue = new ArrayQueue<String>(4);
+		queue.enqueue("uno");
+		queue.enqueue("dos");
+		queue.enqueue(null); //null values are kept as any other value
+		
+		assertEquals(3, queue.size());
+		assertEquals("uno", queue.dequeue());
+		assertEquals("dos", queue.dequeue());
+		assertNull(queue.peek());
+		assertFalse(queue.empty());
+		assertNull(queue.dequeue());
+		assertTrue(queue.empty());
+		
+		//No slot keeps a reference to a removed value
+		for (Object element : elements(queue)) {
+			assertNull(element);
+		}
+	}
+
+	@Test
+	void SameAsArrayDequeTest() {
+		ArrayQueue<Integer> queue = new ArrayQueue<Integer>(1);
+		ArrayDeque<Integer> model = new ArrayDeque<Integer>();
+		Random random = new Random(13);
+		
+		for (int i = 0; i < 100000; i++) {
+			if (random.nextInt(3) > 0) {
+				queue.enqueue(i);
+				model.addLast(i);
+			} else {
+				assertEquals(model.pollFirst(), queue.dequeue());
+			}
+			assertEquals(model.peekFirst(), queue.peek());
+			assertEquals(model.size(), queue.size());
+			assertEquals(model.isEmpty(), queue.empty());
+		}
+	}
+
+	private static Object[] elements(ArrayQueue<?> queue) throws Exception {
+		Field field = ArrayQueue.class.getDeclaredField("elements");
+		field.setAccessible(true);
+		return (Object[]) field.get(queue);
+	}
+
+}
@@ -0,0 +1,101 @@
+/**
+ * 
+ */
+package estructuras;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author moise
+ *
+ */
+class ConcurrentQueueTest {
+
+	private static final int PRODUCERS = 4;
+	private static final int CONSUMERS = 4;
+	private static final int PER_PRODUCER = 100000;
+
+	@Test
+	void EnqueueAndDequeueSingleThreadTest() {
+		ConcurrentQueue<Integer> queue = new ConcurrentQueue<Integer>();
+		assertTrue(queue.empty());
+		assertNull(queue.dequeue());
+		assertNull(queue.peek());
+		queue.enqueue(10);
+		queue.enqueue(20);
+		assertEquals(2, queue.size());
+		assertEquals(10, queue.peek());
+		assertEquals(10, queue.dequeue());
+		assertEquals(20, queue.dequeue());
+		assertTrue(queue.empty());
+		assertThrows(NullPointerException.class, () -> queue.enqueue(null));
+	}
+	
+	@Test
+	void ManyProducersAndConsumersTest() throws Exception {
+		ConcurrentQueue<Integer> queue = new ConcurrentQueue<Integer>();
+		//value = producer * PER_PRODUCER + sequence number of the producer
+		AtomicIntegerArray times = new AtomicIntegerArray(PRODUCERS * PER_PRODUCER);
+		ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		
+		try {
+			for (int p = 0; p < PRODUCERS; p++) {
+				int producer = p;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < PER_PRODUCER; i++) {
+						queue.enqueue(producer * PER_PRODUCER + i);
+					}
+					return null;
+				}));
+			}
+			for (int c = 0; c < CONSUMERS; c++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					//a consumer must see the values of each producer in the order
+					//they were enqueued
+					int[] last = new int[PRODUCERS];
+					Arrays.fill(last, -1);
+					for (int i = 0; i < PRODUCERS * PER_PRODUCER / CONSUMERS; i++) {
+						Integer value = queue.dequeue();
+						while (value == null) {
+							value = queue.dequeue();
+						}
+						int producer = value / PER_PRODUCER;
+						int sequence = value % PER_PRODUCER;
+						assertTrue(sequence > last[producer], "FIFO order of producer " + producer);
+						last[producer] = sequence;
+						times.incrementAndGet(value);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(); //rethrows the assertion errors of the threads
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		for (int i = 0; i < times.length(); i++) {
+			assertEquals(1, times.get(i), "value " + i);
+		}
+		assertTrue(queue.empty());
+		assertNull(queue.dequeue());
+	}
+
+}
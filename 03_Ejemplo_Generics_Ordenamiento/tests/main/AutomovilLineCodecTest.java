@@ -0,0 +1,62 @@
+/**
+ * 
+ */
+package main;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author moise
+ *
+ */
+class AutomovilLineCodecTest {
+
+	@Test
+	void RoundTripTest() throws IOException {
+		String text = "Toyota,Corolla,2015,4.5\n"
+				+ ",,2010,3.0\n"
+				+ "Honda,,2020,10.0\n";
+		AutomovilLineCodec codec = new AutomovilLineCodec();
+		
+		BufferedReader reader = new BufferedReader(new StringReader(text));
+		Automovil first = codec.read(reader);
+		Automovil empty = codec.read(reader);
+		Automovil noLinea = codec.read(reader);
+		assertNull(codec.read(reader));
+		
+		assertEquals("Toyota", first.getMarca());
+		assertEquals("Corolla", first.getLinea());
+		assertEquals(2015, first.getAnio_Fabricacion());
+		assertEquals(4.5, first.getCantidadGasolinaActual());
+		assertNull(empty.getMarca());
+		assertNull(empty.getLinea());
+		assertEquals(2010, empty.getAnio_Fabricacion());
+		assertEquals("Honda", noLinea.getMarca());
+		assertNull(noLinea.getLinea());
+		
+		//A record read from a file can be written back
+		StringWriter output = new StringWriter();
+		BufferedWriter writer = new BufferedWriter(output);
+		codec.write(writer, first);
+		codec.write(writer, empty);
+		codec.write(writer, noLinea);
+		writer.flush();
+		assertEquals(text, output.toString().replace(System.lineSeparator(), "\n"));
+	}
+
+	@Test
+	void InvalidRecordTest() {
+		AutomovilLineCodec codec = new AutomovilLineCodec();
+		assertThrows(IOException.class, () -> codec.read(new BufferedReader(new StringReader("Toyota,Corolla,2015\n"))));
+		assertThrows(IOException.class, () -> codec.read(new BufferedReader(new StringReader("Toyota,Corolla,dos mil,4.5\n"))));
+	}
+
+}
@@ -93,7 +93,7 @@ public class EJemploGUI {
 		System.out.println("ESTUDIANTES DESORDENADOS");
 		EscribirArrayList(misEstudiantes_v2);
 		System.out.println("ORDENANDO..");
-		Collections.sort(misEstudiantes_v2);
+		ListSorter.sort(misEstudiantes_v2);
 		System.out.println("ESTUDIANTES ORDENADOS");
 		EscribirArrayList(misEstudiantes_v2);
 		
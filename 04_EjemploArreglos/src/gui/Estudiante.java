@@ -7,7 +7,7 @@ package gui;
  * @author MAAG
  *
  */
-public class Estudiante implements Comparable{
+public class Estudiante implements Comparable<Estudiante>{
 
 	
 	private int carnet;
@@ -62,9 +62,7 @@ public class Estudiante implements Comparable{
 	}
 	
 	@Override
-	public int compareTo(Object o) {
-		Estudiante otroEstudiante = (Estudiante)o;
-		
+	public int compareTo(Estudiante otroEstudiante) {
 		if (this.getNota() < otroEstudiante.getNota()) {
 			return 1;
 		} else if (this.getNota() > otroEstudiante.getNota()){
@@ -0,0 +1,72 @@
+/**
+ * 
+ */
+package gui;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * Sorts java.util.List collections. Array-backed lists (ArrayList, Vector) are
+ * sorted in place by their own sort method, which works directly on the
+ * backing array. Lists with at least PARALLEL_THRESHOLD elements are sorted in
+ * parallel instead: the elements are copied once to an array, sorted with
+ * Arrays.parallelSort and written back with a single pass of a ListIterator,
+ * which is also the bulk path used for linked lists.
+ * 
+ * @author MAAG
+ *
+ */
+public final class ListSorter {
+	
+	/**
+	 * Lists with fewer elements than this are not worth sorting in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+	
+	private ListSorter() {
+	}
+	
+	/**
+	 * Sorts the list in ascending order according to the comparator. The sort is
+	 * stable: equal elements keep their relative order.
+	 * @param list list to sort
+	 * @param comparator comparator that determines the order of the elements
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void sort(List<T> list, Comparator<? super T> comparator) {
+		int size = list.size();
+		if (size < 2) {
+			return;
+		}
+		
+		if (size < PARALLEL_THRESHOLD && list instanceof RandomAccess) {
+			list.sort(comparator);
+			return;
+		}
+		
+		T[] values = (T[]) list.toArray();
+		if (size < PARALLEL_THRESHOLD) {
+			Arrays.sort(values, comparator);
+		} else {
+			Arrays.parallelSort(values, comparator);
+		}
+		
+		ListIterator<T> iterator = list.listIterator();
+		for (int i = 0; i < values.length; i++) {
+			iterator.next();
+			iterator.set(values[i]);
+		}
+	}
+	
+	/**
+	 * Sorts the list in the natural order of its elements.
+	 * @param list list to sort
+	 */
+	public static <T extends Comparable<? super T>> void sort(List<T> list) {
+		sort(list, Comparator.<T>naturalOrder());
+	}
+}
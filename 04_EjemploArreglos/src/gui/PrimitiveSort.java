@@ -0,0 +1,442 @@
+/**
+ * 
+ */
+package gui;
+
+import java.util.Arrays;
+
+/**
+ * Sorting algorithms specialized for arrays of primitive values. They compare
+ * the values directly instead of going through a Comparator, so no element is
+ * boxed and nothing is allocated per element.
+ * 
+ * An instance keeps the scratch buffers used by radixSort so that sorting many
+ * arrays with the same object does not allocate them again; for that reason an
+ * instance must not be shared between threads.
+ * 
+ * @author MAAG
+ *
+ */
+public class PrimitiveSort {
+	
+	/**
+	 * Subarrays with at most this many elements are sorted with a sorting
+	 * network instead of being partitioned again.
+	 */
+	private static final int SMALL_SORT_CUTOFF = SortingNetwork.MAX_LENGTH;
+	
+	/**
+	 * Subarrays with more elements than this use Tukey's ninther (median of
+	 * three medians of three) as pivot instead of a plain median of three.
+	 */
+	private static final int NINTHER_CUTOFF = 128;
+	
+	/**
+	 * Number of bits of the key processed on each pass of radixSort.
+	 */
+	private static final int RADIX_BITS = 8;
+	
+	private static final int RADIX = 1 << RADIX_BITS;
+	
+	private int[] radixBuffer = new int[0];
+	private final int[] radixCount = new int[RADIX];
+
+	/***
+	 * Sorts the specified array of ints in ascending order using introspective
+	 * sort (see QuickSort.introSort) without boxing any element.
+	 * @param myArray List of elements need to be sorted
+	 */
+	public void sort(int[] myArray) {
+		if (myArray.length < 2) {
+			return;
+		}
+		
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(myArray.length));
+		introSort(myArray, 0, myArray.length - 1, depthLimit);
+	}
+	
+	private void introSort(int[] myArray, int inf, int sup, int depthLimit) {
+		while (sup - inf >= SMALL_SORT_CUTOFF) {
+			if (depthLimit == 0) {
+				heapSort(myArray, inf, sup);
+				return;
+			}
+			depthLimit--;
+			
+			int elem_div = myArray[choosePivot(myArray, inf, sup)];
+			
+			//Three-way partition: [inf, lt) < elem_div, [lt, gt] == elem_div, (gt, sup] > elem_div
+			int lt = inf;
+			int gt = sup;
+			int i = inf;
+			while (i <= gt) {
+				int value = myArray[i];
+				if (value < elem_div) {
+					myArray[i++] = myArray[lt];
+					myArray[lt++] = value;
+				} else if (elem_div < value) {
+					myArray[i] = myArray[gt];
+					myArray[gt--] = value;
+				} else {
+					i++;
+				}
+			}
+			
+			if (lt - inf < sup - gt) {
+				introSort(myArray, inf, lt - 1, depthLimit);
+				inf = gt + 1;
+			} else {
+				introSort(myArray, gt + 1, sup, depthLimit);
+				sup = lt - 1;
+			}
+		}
+		
+		SortingNetwork.sort(myArray, inf, sup - inf + 1);
+	}
+	
+	private int choosePivot(int[] myArray, int inf, int sup) {
+		int middle = (inf + sup) >>> 1;
+		
+		if (sup - inf < NINTHER_CUTOFF) {
+			return medianOfThree(myArray, inf, middle, sup);
+		}
+		
+		int step = (sup - inf) / 8;
+		int first = medianOfThree(myArray, inf, inf + step, inf + 2 * step);
+		int second = medianOfThree(myArray, middle - step, middle, middle + step);
+		int third = medianOfThree(myArray, sup - 2 * step, sup - step, sup);
+		return medianOfThree(myArray, first, second, third);
+	}
+	
+	private int medianOfThree(int[] myArray, int a, int b, int c) {
+		if (myArray[a] < myArray[b]) {
+			if (myArray[b] < myArray[c]) {
+				return b;
+			}
+			return myArray[a] < myArray[c] ? c : a;
+		}
+		
+		if (myArray[a] < myArray[c]) {
+			return a;
+		}
+		return myArray[b] < myArray[c] ? c : b;
+	}
+	
+	private void heapSort(int[] myArray, int inf, int sup) {
+		int size = sup - inf + 1;
+		
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			siftDown(myArray, inf, i, size);
+		}
+		
+		for (int last = size - 1; last > 0; last--) {
+			int temp = myArray[inf];
+			myArray[inf] = myArray[inf + last];
+			myArray[inf + last] = temp;
+			siftDown(myArray, inf, 0, last);
+		}
+	}
+	
+	private void siftDown(int[] myArray, int offset, int i, int size) {
+		int value = myArray[offset + i];
+		int child;
+		
+		while ((child = 2 * i + 1) < size) {
+			if (child + 1 < size && myArray[offset + child] < myArray[offset + child + 1]) {
+				child++;
+			}
+			if (value >= myArray[offset + child]) {
+				break;
+			}
+			myArray[offset + i] = myArray[offset + child];
+			i = child;
+		}
+		
+		myArray[offset + i] = value;
+	}
+
+	/***
+	 * Sorts the specified array of ints in ascending order using a least
+	 * significant digit radix sort, one pass per byte of the key. It runs in
+	 * O(n) and is the fastest choice for large arrays of keys such as carnets.
+	 * Passes where every key has the same byte are skipped.
+	 * @param myArray List of elements need to be sorted
+	 */
+	public void radixSort(int[] myArray) {
+		int length = myArray.length;
+		if (length <= RADIX) {
+			sort(myArray); //Too short for the counting passes to pay off
+			return;
+		}
+		
+		if (radixBuffer.length < length) {
+			radixBuffer = new int[length];
+		}
+		
+		int[] source = myArray;
+		int[] target = radixBuffer;
+		
+		for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+			//The sign bit is flipped on the last pass so negative keys go first
+			int flip = (shift + RADIX_BITS == Integer.SIZE) ? RADIX >>> 1 : 0;
+			
+			Arrays.fill(radixCount, 0);
+			for (int i = 0; i < length; i++) {
+				radixCount[((source[i] >>> shift) & (RADIX - 1)) ^ flip]++;
+			}
+			
+			if (radixCount[((source[0] >>> shift) & (RADIX - 1)) ^ flip] == length) {
+				continue; //Every key has the same digit, this pass would not move anything
+			}
+			
+			int position = 0;
+			for (int digit = 0; digit < RADIX; digit++) {
+				int count = radixCount[digit];
+				radixCount[digit] = position;
+				position += count;
+			}
+			
+			for (int i = 0; i < length; i++) {
+				int value = source[i];
+				target[radixCount[((value >>> shift) & (RADIX - 1)) ^ flip]++] = value;
+			}
+			
+			int[] temp = source;
+			source = target;
+			target = temp;
+		}
+		
+		if (source != myArray) {
+			System.arraycopy(source, 0, myArray, 0, length);
+		}
+	}
+
+	/***
+	 * Sorts the specified array of longs in ascending order using introspective
+	 * sort (see QuickSort.introSort) without boxing any element.
+	 * @param myArray List of elements need to be sorted
+	 */
+	public void sort(long[] myArray) {
+		if (myArray.length < 2) {
+			return;
+		}
+		
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(myArray.length));
+		introSort(myArray, 0, myArray.length - 1, depthLimit);
+	}
+	
+	private void introSort(long[] myArray, int inf, int sup, int depthLimit) {
+		while (sup - inf >= SMALL_SORT_CUTOFF) {
+			if (depthLimit == 0) {
+				heapSort(myArray, inf, sup);
+				return;
+			}
+			depthLimit--;
+			
+			long elem_div = myArray[choosePivot(myArray, inf, sup)];
+			
+			//Three-way partition: [inf, lt) < elem_div, [lt, gt] == elem_div, (gt, sup] > elem_div
+			int lt = inf;
+			int gt = sup;
+			int i = inf;
+			while (i <= gt) {
+				long value = myArray[i];
+				if (value < elem_div) {
+					myArray[i++] = myArray[lt];
+					myArray[lt++] = value;
+				} else if (elem_div < value) {
+					myArray[i] = myArray[gt];
+					myArray[gt--] = value;
+				} else {
+					i++;
+				}
+			}
+			
+			if (lt - inf < sup - gt) {
+				introSort(myArray, inf, lt - 1, depthLimit);
+				inf = gt + 1;
+			} else {
+				introSort(myArray, gt + 1, sup, depthLimit);
+				sup = lt - 1;
+			}
+		}
+		
+		SortingNetwork.sort(myArray, inf, sup - inf + 1);
+	}
+	
+	private int choosePivot(long[] myArray, int inf, int sup) {
+		int middle = (inf + sup) >>> 1;
+		
+		if (sup - inf < NINTHER_CUTOFF) {
+			return medianOfThree(myArray, inf, middle, sup);
+		}
+		
+		int step = (sup - inf) / 8;
+		int first = medianOfThree(myArray, inf, inf + step, inf + 2 * step);
+		int second = medianOfThree(myArray, middle - step, middle, middle + step);
+		int third = medianOfThree(myArray, sup - 2 * step, sup - step, sup);
+		return medianOfThree(myArray, first, second, third);
+	}
+	
+	private int medianOfThree(long[] myArray, int a, int b, int c) {
+		if (myArray[a] < myArray[b]) {
+			if (myArray[b] < myArray[c]) {
+				return b;
+			}
+			return myArray[a] < myArray[c] ? c : a;
+		}
+		
+		if (myArray[a] < myArray[c]) {
+			return a;
+		}
+		return myArray[b] < myArray[c] ? c : b;
+	}
+	
+	private void heapSort(long[] myArray, int inf, int sup) {
+		int size = sup - inf + 1;
+		
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			siftDown(myArray, inf, i, size);
+		}
+		
+		for (int last = size - 1; last > 0; last--) {
+			long temp = myArray[inf];
+			myArray[inf] = myArray[inf + last];
+			myArray[inf + last] = temp;
+			siftDown(myArray, inf, 0, last);
+		}
+	}
+	
+	private void siftDown(long[] myArray, int offset, int i, int size) {
+		long value = myArray[offset + i];
+		int child;
+		
+		while ((child = 2 * i + 1) < size) {
+			if (child + 1 < size && myArray[offset + child] < myArray[offset + child + 1]) {
+				child++;
+			}
+			if (value >= myArray[offset + child]) {
+				break;
+			}
+			myArray[offset + i] = myArray[offset + child];
+			i = child;
+		}
+		
+		myArray[offset + i] = value;
+	}
+
+	/***
+	 * Sorts the specified array of doubles in ascending order using introspective
+	 * sort (see QuickSort.introSort) without boxing any element. Values are
+	 * ordered as Double.compare does: -0.0 before 0.0 and NaN at the end.
+	 * @param myArray List of elements need to be sorted
+	 */
+	public void sort(double[] myArray) {
+		if (myArray.length < 2) {
+			return;
+		}
+		
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(myArray.length));
+		introSort(myArray, 0, myArray.length - 1, depthLimit);
+	}
+	
+	private void introSort(double[] myArray, int inf, int sup, int depthLimit) {
+		while (sup - inf >= SMALL_SORT_CUTOFF) {
+			if (depthLimit == 0) {
+				heapSort(myArray, inf, sup);
+				return;
+			}
+			depthLimit--;
+			
+			double elem_div = myArray[choosePivot(myArray, inf, sup)];
+			
+			//Three-way partition: [inf, lt) < elem_div, [lt, gt] == elem_div, (gt, sup] > elem_div
+			int lt = inf;
+			int gt = sup;
+			int i = inf;
+			while (i <= gt) {
+				double value = myArray[i];
+				if (Double.compare(value, elem_div) < 0) {
+					myArray[i++] = myArray[lt];
+					myArray[lt++] = value;
+				} else if (Double.compare(elem_div, value) < 0) {
+					myArray[i] = myArray[gt];
+					myArray[gt--] = value;
+				} else {
+					i++;
+				}
+			}
+			
+			if (lt - inf < sup - gt) {
+				introSort(myArray, inf, lt - 1, depthLimit);
+				inf = gt + 1;
+			} else {
+				introSort(myArray, gt + 1, sup, depthLimit);
+				sup = lt - 1;
+			}
+		}
+		
+		SortingNetwork.sort(myArray, inf, sup - inf + 1);
+	}
+	
+	private int choosePivot(double[] myArray, int inf, int sup) {
+		int middle = (inf + sup) >>> 1;
+		
+		if (sup - inf < NINTHER_CUTOFF) {
+			return medianOfThree(myArray, inf, middle, sup);
+		}
+		
+		int step = (sup - inf) / 8;
+		int first = medianOfThree(myArray, inf, inf + step, inf + 2 * step);
+		int second = medianOfThree(myArray, middle - step, middle, middle + step);
+		int third = medianOfThree(myArray, sup - 2 * step, sup - step, sup);
+		return medianOfThree(myArray, first, second, third);
+	}
+	
+	private int medianOfThree(double[] myArray, int a, int b, int c) {
+		if (Double.compare(myArray[a], myArray[b]) < 0) {
+			if (Double.compare(myArray[b], myArray[c]) < 0) {
+				return b;
+			}
+			return Double.compare(myArray[a], myArray[c]) < 0 ? c : a;
+		}
+		
+		if (Double.compare(myArray[a], myArray[c]) < 0) {
+			return a;
+		}
+		return Double.compare(myArray[b], myArray[c]) < 0 ? c : b;
+	}
+	
+	private void heapSort(double[] myArray, int inf, int sup) {
+		int size = sup - inf + 1;
+		
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			siftDown(myArray, inf, i, size);
+		}
+		
+		for (int last = size - 1; last > 0; last--) {
+			double temp = myArray[inf];
+			myArray[inf] = myArray[inf + last];
+			myArray[inf + last] = temp;
+			siftDown(myArray, inf, 0, last);
+		}
+	}
+	
+	private void siftDown(double[] myArray, int offset, int i, int size) {
+		double value = myArray[offset + i];
+		int child;
+		
+		while ((child = 2 * i + 1) < size) {
+			if (child + 1 < size && Double.compare(myArray[offset + child], myArray[offset + child + 1]) < 0) {
+				child++;
+			}
+			if (Double.compare(value, myArray[offset + child]) >= 0) {
+				break;
+			}
+			myArray[offset + i] = myArray[offset + child];
+			i = child;
+		}
+		
+		myArray[offset + i] = value;
+	}
+}
@@ -10,6 +10,17 @@ import java.util.Comparator;
  *
  */
 public class QuickSort<T> {
+	
+	/**
+	 * Subarrays with at most this many elements are sorted with insertion sort.
+	 */
+	private static final int INSERTION_CUTOFF = 32;
+	
+	/**
+	 * Subarrays with more elements than this use Tukey's ninther (median of
+	 * three medians of three) as pivot instead of a plain median of three.
+	 */
+	private static final int NINTHER_CUTOFF = 128;
 
 	 /***
 		 * Sorts the specified array of objects using recursive quicksort 
@@ -51,4 +62,156 @@ public class QuickSort<T> {
 		   quickSort(myArray, inf, i - 1, myCompare);
 		   quickSort(myArray, i + 1, sup, myCompare);
 	   }
+	   
+	   /***
+		 * Sorts the specified array of objects using introspective sort: a quicksort
+		 * with median-of-three (or ninther) pivots and three-way partitioning that
+		 * switches to heapsort when the recursion gets too deep and to insertion
+		 * sort for small ranges. Unlike quickSort it runs in O(n log n) even for
+		 * sorted, reversed or duplicate-heavy input.
+		 * @param myArray List of elements need to be sorted
+		 */
+	   public void introSort(T[] myArray, Comparator<T> myCompare) {
+		   if (myArray.length < 2) {
+			   return;
+		   }
+		   
+		   int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(myArray.length));
+		   introSort(myArray, 0, myArray.length - 1, depthLimit, myCompare);
+	   }
+	   
+	   /***
+		 * Sorts myArray[inf..sup]. The smaller partition is sorted recursively and
+		 * the larger one in the loop, so the stack never grows beyond O(log n).
+		 * @param depthLimit partitioning rounds left before switching to heapsort
+		 */
+	   private void introSort(T[] myArray, int inf, int sup, int depthLimit, Comparator<T> myCompare) {
+		   while (sup - inf >= INSERTION_CUTOFF) {
+			   if (depthLimit == 0) {
+				   heapSort(myArray, inf, sup, myCompare);
+				   return;
+			   }
+			   depthLimit--;
+			   
+			   T elem_div = myArray[choosePivot(myArray, inf, sup, myCompare)];
+			   
+			   //Three-way partition: [inf, lt) < elem_div, [lt, gt] == elem_div, (gt, sup] > elem_div
+			   int lt = inf;
+			   int gt = sup;
+			   int i = inf;
+			   while (i <= gt) {
+				   int result = myCompare.compare(myArray[i], elem_div);
+				   if (result < 0) {
+					   swap(myArray, lt++, i++);
+				   } else if (result > 0) {
+					   swap(myArray, i, gt--);
+				   } else {
+					   i++;
+				   }
+			   }
+			   
+			   if (lt - inf < sup - gt) {
+				   introSort(myArray, inf, lt - 1, depthLimit, myCompare);
+				   inf = gt + 1;
+			   } else {
+				   introSort(myArray, gt + 1, sup, depthLimit, myCompare);
+				   sup = lt - 1;
+			   }
+		   }
+		   
+		   insertionSort(myArray, inf, sup, myCompare);
+	   }
+	   
+	   /***
+		 * Returns the index of the pivot for myArray[inf..sup]: the median of the
+		 * first, middle and last elements, or Tukey's ninther for large ranges.
+		 */
+	   private int choosePivot(T[] myArray, int inf, int sup, Comparator<T> myCompare) {
+		   int middle = (inf + sup) >>> 1;
+		   
+		   if (sup - inf < NINTHER_CUTOFF) {
+			   return medianOfThree(myArray, inf, middle, sup, myCompare);
+		   }
+		   
+		   int step = (sup - inf) / 8;
+		   int first = medianOfThree(myArray, inf, inf + step, inf + 2 * step, myCompare);
+		   int second = medianOfThree(myArray, middle - step, middle, middle + step, myCompare);
+		   int third = medianOfThree(myArray, sup - 2 * step, sup - step, sup, myCompare);
+		   return medianOfThree(myArray, first, second, third, myCompare);
+	   }
+	   
+	   private int medianOfThree(T[] myArray, int a, int b, int c, Comparator<T> myCompare) {
+		   if (myCompare.compare(myArray[a], myArray[b]) < 0) {
+			   if (myCompare.compare(myArray[b], myArray[c]) < 0) {
+				   return b;
+			   }
+			   return myCompare.compare(myArray[a], myArray[c]) < 0 ? c : a;
+		   }
+		   
+		   if (myCompare.compare(myArray[a], myArray[c]) < 0) {
+			   return a;
+		   }
+		   return myCompare.compare(myArray[b], myArray[c]) < 0 ? c : b;
+	   }
+	   
+	   /***
+		 * Sorts myArray[inf..sup] using insertion sort, the base case of introSort.
+		 */
+	   private void insertionSort(T[] myArray, int inf, int sup, Comparator<T> myCompare) {
+		   for (int index = inf + 1; index <= sup; index++) {
+			   T key = myArray[index];
+			   int position = index;
+			   
+			   while (position > inf && myCompare.compare(key, myArray[position - 1]) < 0) {
+				   myArray[position] = myArray[position - 1];
+				   position--;
+			   }
+			   
+			   myArray[position] = key;
+		   }
+	   }
+	   
+	   /***
+		 * Sorts myArray[inf..sup] using heapsort, the O(n log n) fallback of introSort.
+		 */
+	   private void heapSort(T[] myArray, int inf, int sup, Comparator<T> myCompare) {
+		   int size = sup - inf + 1;
+		   
+		   for (int i = size / 2 - 1; i >= 0; i--) {
+			   siftDown(myArray, inf, i, size, myCompare);
+		   }
+		   
+		   for (int last = size - 1; last > 0; last--) {
+			   swap(myArray, inf, inf + last);
+			   siftDown(myArray, inf, 0, last, myCompare);
+		   }
+	   }
+	   
+	   /***
+		 * Moves the element at heap position i down a max-heap of the given size
+		 * stored from myArray[offset] on.
+		 */
+	   private void siftDown(T[] myArray, int offset, int i, int size, Comparator<T> myCompare) {
+		   T value = myArray[offset + i];
+		   int child;
+		   
+		   while ((child = 2 * i + 1) < size) {
+			   if (child + 1 < size && myCompare.compare(myArray[offset + child], myArray[offset + child + 1]) < 0) {
+				   child++;
+			   }
+			   if (myCompare.compare(value, myArray[offset + child]) >= 0) {
+				   break;
+			   }
+			   myArray[offset + i] = myArray[offset + child];
+			   i = child;
+		   }
+		   
+		   myArray[offset + i] = value;
+	   }
+	   
+	   private void swap(T[] myArray, int i, int j) {
+		   T temp = myArray[i];
+		   myArray[i] = myArray[j];
+		   myArray[j] = temp;
+	   }
 }
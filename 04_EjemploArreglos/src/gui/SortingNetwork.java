@@ -0,0 +1,116 @@
+/**
+ * 
+ */
+package gui;
+
+/**
+ * Sorting networks for arrays of up to MAX_LENGTH primitive values. A network
+ * is a fixed sequence of compare-exchange operations that sorts any input of
+ * its length; the networks used here are the smallest known ones (for 16
+ * elements, 60 compare-exchanges in 10 parallel layers).
+ * 
+ * Every compare-exchange is written with Math.min / Math.max (or a ternary for
+ * doubles) instead of an if, so the JIT can turn it into conditional moves and
+ * the only branch left is the loop over the network, whose outcome never
+ * depends on the data. That avoids the branch mispredictions insertion sort
+ * suffers on random input, which is why PrimitiveSort uses these networks to
+ * sort the small ranges left by partitioning.
+ * 
+ * @author MAAG
+ *
+ */
+public final class SortingNetwork {
+	
+	/**
+	 * Longest array that can be sorted with a network.
+	 */
+	public static final int MAX_LENGTH = 16;
+	
+	/**
+	 * NETWORKS[n] holds the pairs of positions compared by the network for n
+	 * elements, flattened as {i0, j0, i1, j1, ...} with i &lt; j. Pairs that belong
+	 * to the same layer touch different positions and are separated by two spaces.
+	 */
+	private static final byte[][] NETWORKS = {
+		{},
+		{},
+		{0,1},
+		{0,2,  0,1,  1,2},
+		{0,2, 1,3,  0,1, 2,3,  1,2},
+		{0,3, 1,4,  0,2, 1,3,  0,1, 2,4,  1,2, 3,4,  2,3},
+		{0,5, 1,3, 2,4,  1,2, 3,4,  0,3, 2,5,  0,1, 2,3, 4,5,  1,2, 3,4},
+		{0,6, 2,3, 4,5,  0,2, 1,4, 3,6,  0,1, 2,5, 3,4,  1,2, 4,6,  2,3, 4,5,  1,2, 3,4, 5,6},
+		{0,2, 1,3, 4,6, 5,7,  0,4, 1,5, 2,6, 3,7,  0,1, 2,3, 4,5, 6,7,  2,4, 3,5,  1,4, 3,6,  1,2, 3,4, 5,6},
+		{0,3, 1,7, 2,5, 4,8,  0,7, 2,4, 3,8, 5,6,  0,2, 1,3, 4,5, 7,8,  1,4, 3,6, 5,7,  0,1, 2,4, 3,5, 6,8,  2,3, 4,5, 6,7,  1,2, 3,4, 5,6},
+		{0,8, 1,9, 2,7, 3,5, 4,6,  0,2, 1,4, 5,8, 7,9,  0,3, 2,4, 5,7, 6,9,  0,1, 3,6, 8,9,  1,5, 2,3, 4,8, 6,7,  1,2, 3,5, 4,6, 7,8,  2,3, 4,5, 6,7,  3,4, 5,6},
+		{0,9, 1,6, 2,4, 3,7, 5,8,  0,1, 3,5, 4,10, 6,9, 7,8,  1,3, 2,5, 4,7, 8,10,  0,4, 1,2, 3,7, 5,9, 6,8,  0,1, 2,6, 4,5, 7,8, 9,10,  2,4, 3,6, 5,7, 8,9,  1,2, 3,4, 5,6, 7,8,  2,3, 4,5, 6,7},
+		{0,8, 1,7, 2,6, 3,11, 4,10, 5,9,  0,1, 2,5, 3,4, 6,9, 7,8, 10,11,  0,2, 1,6, 5,10, 9,11,  0,3, 1,2, 4,6, 5,7, 8,11, 9,10,  1,4, 3,5, 6,8, 7,10,  1,3, 2,5, 6,9, 8,10,  2,3, 4,5, 6,7, 8,9,  4,6, 5,7,  3,4, 5,6, 7,8},
+		{0,12, 1,10, 2,9, 3,7, 5,11, 6,8,  1,6, 2,3, 4,11, 7,9, 8,10,  0,4, 1,2, 3,6, 7,8, 9,10, 11,12,  4,6, 5,9, 8,11, 10,12,  0,5, 3,8, 4,7, 6,11, 9,10,  0,1, 2,5, 6,9, 7,8, 10,11,  1,3, 2,4, 5,6, 9,10,  1,2, 3,4, 5,7, 6,8,  2,3, 4,5, 6,7, 8,9,  3,4, 5,6},
+		{0,1, 2,3, 4,5, 6,7, 8,9, 10,11, 12,13,  0,2, 1,3, 4,8, 5,9, 10,12, 11,13,  0,4, 1,2, 3,7, 5,8, 6,10, 9,13, 11,12,  0,6, 1,5, 3,9, 4,10, 7,13, 8,12,  2,10, 3,11, 4,6, 7,9,  1,3, 2,8, 5,11, 6,7, 10,12,  1,4, 2,6, 3,5, 7,11, 8,10, 9,12,  2,4, 3,6, 5,8, 7,10, 9,11,  3,4, 5,6, 7,8, 9,10,  6,7},
+		{0,13, 1,12, 3,14, 4,8, 5,6, 7,11, 9,10,  0,5, 1,7, 2,9, 3,4, 6,13, 8,14, 11,12,  0,1, 2,3, 4,5, 6,8, 7,9, 10,11, 12,13,  0,2, 1,3, 4,10, 5,11, 6,7, 8,9, 12,14,  1,2, 3,12, 4,6, 5,7, 8,10, 9,11, 13,14,  1,4, 2,6, 5,8, 7,10, 9,13, 11,14,  2,4, 3,6, 9,12, 11,13,  3,5, 6,8, 7,9, 10,12,  3,4, 5,6, 7,8, 9,10, 11,12,  6,7, 8,9},
+		{0,13, 1,12, 2,15, 3,14, 4,8, 5,6, 7,11, 9,10,  0,5, 1,7, 2,9, 3,4, 6,13, 8,14, 10,15, 11,12,  0,1, 2,3, 4,5, 6,8, 7,9, 10,11, 12,13, 14,15,  0,2, 1,3, 4,10, 5,11, 6,7, 8,9, 12,14, 13,15,  1,2, 3,12, 4,6, 5,7, 8,10, 9,11, 13,14,  1,4, 2,6, 5,8, 7,10, 9,13, 11,14,  2,4, 3,6, 9,12, 11,13,  3,5, 6,8, 7,9, 10,12,  3,4, 5,6, 7,8, 9,10, 11,12,  6,7, 8,9}
+	};
+	
+	private SortingNetwork() {
+	}
+	
+	/**
+	 * Sorts myArray[from..from + length - 1] in ascending order.
+	 * @param myArray array that contains the range
+	 * @param from first position of the range
+	 * @param length number of elements of the range, at most MAX_LENGTH
+	 */
+	public static void sort(int[] myArray, int from, int length) {
+		byte[] network = NETWORKS[length];
+		
+		for (int k = 0; k < network.length; k += 2) {
+			int i = from + network[k];
+			int j = from + network[k + 1];
+			int a = myArray[i];
+			int b = myArray[j];
+			myArray[i] = Math.min(a, b);
+			myArray[j] = Math.max(a, b);
+		}
+	}
+	
+	/**
+	 * Sorts myArray[from..from + length - 1] in ascending order.
+	 * @param myArray array that contains the range
+	 * @param from first position of the range
+	 * @param length number of elements of the range, at most MAX_LENGTH
+	 */
+	public static void sort(long[] myArray, int from, int length) {
+		byte[] network = NETWORKS[length];
+		
+		for (int k = 0; k < network.length; k += 2) {
+			int i = from + network[k];
+			int j = from + network[k + 1];
+			long a = myArray[i];
+			long b = myArray[j];
+			myArray[i] = Math.min(a, b);
+			myArray[j] = Math.max(a, b);
+		}
+	}
+	
+	/**
+	 * Sorts myArray[from..from + length - 1] in ascending order, in the order of
+	 * Double.compare (-0.0 before 0.0, NaN at the end). Math.min and Math.max
+	 * do not follow that order for NaN, so the exchange uses a ternary instead.
+	 * @param myArray array that contains the range
+	 * @param from first position of the range
+	 * @param length number of elements of the range, at most MAX_LENGTH
+	 */
+	public static void sort(double[] myArray, int from, int length) {
+		byte[] network = NETWORKS[length];
+		
+		for (int k = 0; k < network.length; k += 2) {
+			int i = from + network[k];
+			int j = from + network[k + 1];
+			double a = myArray[i];
+			double b = myArray[j];
+			boolean exchange = Double.compare(a, b) > 0;
+			myArray[i] = exchange ? b : a;
+			myArray[j] = exchange ? a : b;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * 
+ */
+package gui;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author MAAG
+ *
+ */
+class PrimitiveSortTest {
+
+	private static final int[] LENGTHS = { 0, 1, 2, 16, 17, 128, 129, 256, 257, 1000, 100000 };
+
+	@Test
+	void RadixSortNegativeTest() {
+		PrimitiveSort mySort = new PrimitiveSort();
+		Random random = new Random(3);
+		
+		for (int length : LENGTHS) {
+			//Only negative keys, mixed signs, and keys that differ only in the sign byte
+			int[][] inputs = new int[3][length];
+			for (int i = 0; i < length; i++) {
+				inputs[0][i] = -1 - random.nextInt(Integer.MAX_VALUE);
+				inputs[1][i] = random.nextInt();
+				inputs[2][i] = (random.nextInt(256) << 24) | 5;
+			}
+			if (length > 0) {
+				inputs[1][0] = Integer.MIN_VALUE;
+			}
+			
+			for (int[] myArray : inputs) {
+				int[] expected = myArray.clone();
+				Arrays.sort(expected);
+				mySort.radixSort(myArray); //the same object reuses its buffers
+				assertArrayEquals(expected, myArray);
+			}
+		}
+	}
+
+	@Test
+	void SortIntTest() {
+		PrimitiveSort mySort = new PrimitiveSort();
+		Random random = new Random(5);
+		
+		for (int length : LENGTHS) {
+			int[][] inputs = new int[4][length];
+			for (int i = 0; i < length; i++) {
+				inputs[0][i] = i;
+				inputs[1][i] = -i;
+				inputs[2][i] = random.nextInt(3) - 1;
+				inputs[3][i] = random.nextInt();
+			}
+			
+			for (int[] myArray : inputs) {
+				int[] expected = myArray.clone();
+				Arrays.sort(expected);
+				mySort.sort(myArray);
+				assertArrayEquals(expected, myArray);
+			}
+		}
+	}
+
+	@Test
+	void SortLongTest() {
+		PrimitiveSort mySort = new PrimitiveSort();
+		Random random = new Random(7);
+		
+		for (int length : LENGTHS) {
+			long[] myArray = new long[length];
+			for (int i = 0; i < length; i++) {
+				myArray[i] = (i % 2 == 0) ? random.nextLong() : random.nextInt(4);
+			}
+			
+			long[] expected = myArray.clone();
+			Arrays.sort(expected);
+			mySort.sort(myArray);
+			assertArrayEquals(expected, myArray);
+		}
+	}
+
+	@Test
+	void SortDoubleTest() {
+		PrimitiveSort mySort = new PrimitiveSort();
+		Random random = new Random(11);
+		double[] special = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1.5, Double.MIN_VALUE };
+		
+		for (int length : LENGTHS) {
+			double[] myArray = new double[length];
+			for (int i = 0; i < length; i++) {
+				myArray[i] = (random.nextInt(4) == 0) ? special[random.nextInt(special.length)] : random.nextGaussian();
+			}
+			
+			double[] expected = myArray.clone();
+			Arrays.sort(expected); //Double.compare order: -0.0 before 0.0, NaN last
+			mySort.sort(myArray);
+			for (int i = 0; i < length; i++) {
+				assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(myArray[i]));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/**
+ * 
+ */
+package gui;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author MAAG
+ *
+ */
+class QuickSortTest {
+
+	@Test
+	void IntroSortTest() {
+		QuickSort<Integer> mySort = new QuickSort<Integer>();
+		for (int length : new int[] { 0, 1, 2, 32, 33, 128, 129, 1000, 100000 }) {
+			for (Integer[] myArray : inputs(length)) {
+				Integer[] expected = myArray.clone();
+				Arrays.sort(expected);
+				mySort.introSort(myArray, Comparator.naturalOrder());
+				assertArrayEquals(expected, myArray);
+			}
+		}
+	}
+
+	@Test
+	void IntroSortWithComparatorTest() {
+		Integer[] myArray = inputs(5000)[5];
+		Integer[] expected = myArray.clone();
+		Arrays.sort(expected, Comparator.reverseOrder());
+		new QuickSort<Integer>().introSort(myArray, Comparator.reverseOrder());
+		assertArrayEquals(expected, myArray);
+	}
+
+	@Test
+	void QuickSortTest() {
+		Integer[] myArray = inputs(1000)[5];
+		Integer[] expected = myArray.clone();
+		Arrays.sort(expected);
+		new QuickSort<Integer>().quickSort(myArray, 0, myArray.length - 1, Comparator.naturalOrder());
+		assertArrayEquals(expected, myArray);
+	}
+
+	/**
+	 * Inputs that make a plain quicksort quadratic: sorted, reversed, few
+	 * distinct values, all equal and organ pipe, plus a random one.
+	 */
+	private static Integer[][] inputs(int length) {
+		Random random = new Random(length);
+		Integer[][] result = new Integer[6][length];
+		for (int i = 0; i < length; i++) {
+			result[0][i] = i;
+			result[1][i] = length - i;
+			result[2][i] = random.nextInt(4);
+			result[3][i] = 7;
+			result[4][i] = Math.min(i, length - i);
+			result[5][i] = random.nextInt();
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * 
+ */
+package gui;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author MAAG
+ *
+ */
+class SortingNetworkTest {
+
+	/**
+	 * 0-1 principle: a network that sorts every input of zeros and ones sorts
+	 * every input of its length, so checking the 2^n binary inputs proves it.
+	 */
+	@Test
+	void ZeroOnePrincipleTest() {
+		for (int length = 0; length <= SortingNetwork.MAX_LENGTH; length++) {
+			int[] myArray = new int[length + 2];
+			
+			for (int bits = 0; bits < (1 << length); bits++) {
+				//The range starts at position 1, the positions around it must not change
+				myArray[0] = -1;
+				myArray[length + 1] = -1;
+				for (int i = 0; i < length; i++) {
+					myArray[i + 1] = (bits >>> i) & 1;
+				}
+				
+				SortingNetwork.sort(myArray, 1, length);
+				
+				int zeros = length - Integer.bitCount(bits);
+				for (int i = 0; i < length; i++) {
+					assertEquals((i < zeros) ? 0 : 1, myArray[i + 1], "length " + length + ", input " + bits);
+				}
+				assertEquals(-1, myArray[0]);
+				assertEquals(-1, myArray[length + 1]);
+			}
+		}
+	}
+
+	@Test
+	void LongAndDoubleTest() {
+		Random random = new Random(29);
+		double[] special = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+		
+		for (int length = 0; length <= SortingNetwork.MAX_LENGTH; length++) {
+			for (int round = 0; round < 200; round++) {
+				long[] longs = new long[length];
+				double[] doubles = new double[length];
+				for (int i = 0; i < length; i++) {
+					longs[i] = random.nextBoolean() ? random.nextLong() : random.nextInt(3);
+					doubles[i] = random.nextBoolean() ? special[random.nextInt(special.length)] : random.nextGaussian();
+				}
+				
+				long[] expectedLongs = longs.clone();
+				Arrays.sort(expectedLongs);
+				SortingNetwork.sort(longs, 0, length);
+				assertArrayEquals(expectedLongs, longs);
+				
+				double[] expectedDoubles = doubles.clone();
+				Arrays.sort(expectedDoubles);
+				SortingNetwork.sort(doubles, 0, length);
+				for (int i = 0; i < length; i++) {
+					assertEquals(Double.doubleToLongBits(expectedDoubles[i]), Double.doubleToLongBits(doubles[i]));
+				}
+			}
+		}
+	}
+
+}
@@ -1,14 +1,32 @@
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 
  */
 
 /**
+ * Binary search tree with parent links. Besides the traversals with
+ * ITraversal it has lazy iterators and a spliterator that move from node to
+ * node through the parent links, so they use constant extra memory, can stop
+ * at any point and give parallel streams. The tree must not be modified
+ * while they are used.
+ * 
  * @author MAAG
  *
  */
-public class BinarySearchTree<K, V> {
+public class BinarySearchTree<K, V> implements Iterable<V> {
+	
+	//Orders for the iterators
+	private static final int PRE_ORDER = 0;
+	private static final int IN_ORDER = 1;
+	private static final int POST_ORDER = 2;
 
 	private TreeNode<K, V> root;
 	private Comparator<K> keyComparator;
@@ -32,6 +50,128 @@ public class BinarySearchTree<K, V> {
 	
 	/**
 
+	Builds a balanced tree with the pairs keys[i], values[i], in O(n) when the
+	keys are already sorted or O(n log n) when they have to be sorted first.
+	As with insert, only the first value of a repeated key is kept
+	@param _keyComparator the comparator to use for comparing keys
+	@param _keyGenerator the key generator to use for generating keys from values
+	@param keys the keys, sorted or not
+	@param values the value of each key
+	@return the new tree
+	*/
+	public static <K, V> BinarySearchTree<K, V> fromSorted(Comparator<K> _keyComparator, IGetKey<K, V> _keyGenerator, K[] keys, V[] values) {
+		BinarySearchTree<K, V> tree = new BinarySearchTree<K, V>(_keyComparator, _keyGenerator);
+		tree.insertAll(keys, values);
+		return tree;
+	}
+	
+	/**
+
+	Inserts all the pairs keys[i], values[i] at once. The new pairs are sorted
+	if needed and merged in order with the nodes of the tree, then the whole
+	tree is rebuilt balanced in O(n + m) instead of m inserts of O(height)
+	each. Keys that are already in the tree keep their value, as with insert
+	@param keys the keys, sorted or not
+	@param values the value of each key
+	*/
+	public void insertAll(K[] keys, V[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("There must be a value for each key");
+		}
+		
+		TreeNode<K, V>[] newNodes = sortedNodes(keys, values);
+		
+		//Los nodos del arbol en orden
+		int oldCount = (root == null) ? 0 : count;
+		TreeNode<K, V>[] oldNodes = newNodeArray(oldCount);
+		TreeNode<K, V> actual = firstNode(root, IN_ORDER);
+		for (int i = 0; i < oldCount; i++) {
+			oldNodes[i] = actual;
+			actual = nextNode(actual, IN_ORDER);
+		}
+		
+		//Mezcla ambos arreglos ordenados, con llaves iguales se queda el nodo del arbol
+		TreeNode<K, V>[] merged = newNodeArray(oldNodes.length + newNodes.length);
+		int total = 0;
+		int i = 0;
+		int j = 0;
+		while ((i < oldNodes.length) || (j < newNodes.length)) {
+			if (j == newNodes.length) {
+				merged[total++] = oldNodes[i++];
+			} else if (i == oldNodes.length) {
+				merged[total++] = newNodes[j++];
+			} else {
+				int result = keyComparator.compare(oldNodes[i].getKey(), newNodes[j].getKey());
+				if (result < 0) {
+					merged[total++] = oldNodes[i++];
+				} else if (result > 0) {
+					merged[total++] = newNodes[j++];
+				} else {
+					merged[total++] = oldNodes[i++];
+					j++;
+				}
+			}
+		}
+		
+		root = buildBalanced(merged, 0, total - 1, null);
+		count = total;
+		isEmpty = (total == 0);
+	}
+	
+	/**
+
+	Creates a node for each pair, sorted by key and without repeated keys. The
+	sort is stable, so the first value of a repeated key is kept
+	*/
+	private TreeNode<K, V>[] sortedNodes(K[] keys, V[] values) {
+		TreeNode<K, V>[] nodes = newNodeArray(keys.length);
+		boolean sorted = true;
+		for (int i = 0; i < keys.length; i++) {
+			nodes[i] = new TreeNode<K, V>(keys[i], values[i]);
+			if ((i > 0) && (keyComparator.compare(keys[i - 1], keys[i]) > 0)) {
+				sorted = false;
+			}
+		}
+		
+		if (!sorted) {
+			Arrays.sort(nodes, (a, b) -> keyComparator.compare(a.getKey(), b.getKey()));
+		}
+		
+		int unique = 0;
+		for (int i = 0; i < nodes.length; i++) {
+			if ((unique == 0) || (keyComparator.compare(nodes[unique - 1].getKey(), nodes[i].getKey()) != 0)) {
+				nodes[unique++] = nodes[i];
+			}
+		}
+		return (unique == nodes.length) ? nodes : Arrays.copyOf(nodes, unique);
+	}
+	
+	/**
+
+	Links the sorted nodes from first to last as a balanced subtree: the middle
+	one is the root and each half is built the same way
+	@return the root of the subtree, null when it is empty
+	*/
+	private TreeNode<K, V> buildBalanced(TreeNode<K, V>[] nodes, int first, int last, TreeNode<K, V> parent) {
+		if (first > last) {
+			return null;
+		}
+		
+		int middle = (first + last) >>> 1;
+		TreeNode<K, V> actual = nodes[middle];
+		actual.setParent(parent);
+		actual.setLeft(buildBalanced(nodes, first, middle - 1, actual));
+		actual.setRight(buildBalanced(nodes, middle + 1, last, actual));
+		return actual;
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <K, V> TreeNode<K, V>[] newNodeArray(int length) {
+		return (TreeNode<K, V>[]) new TreeNode[length];
+	}
+	
+	/**
+
 	Adds the specified value to the tree
 	@param value the value to be added
 	*/
@@ -462,4 +602,235 @@ public class BinarySearchTree<K, V> {
 	public int count() {
 		return count;
 	}
+	
+	/**
+
+	Returns the values in order of their keys, same as inOrderIterator()
+	@return a lazy iterator in order
+	*/
+	@Override
+	public Iterator<V> iterator() {
+		return inOrderIterator();
+	}
+	
+	public Iterator<V> inOrderIterator() {
+		return new TreeIterator(IN_ORDER);
+	}
+	
+	public Iterator<V> preOrderIterator() {
+		return new TreeIterator(PRE_ORDER);
+	}
+	
+	public Iterator<V> postOrderIterator() {
+		return new TreeIterator(POST_ORDER);
+	}
+	
+	/**
+
+	Returns a spliterator over the values in order. It splits the tree at the
+	root, then at the roots of each side, as java.util.TreeMap does
+	@return a spliterator in order
+	*/
+	@Override
+	public Spliterator<V> spliterator() {
+		return new TreeSpliterator(null, null, 0, -1);
+	}
+	
+	/**
+
+	Returns a sequential stream over the values in order
+	@return the stream
+	*/
+	public Stream<V> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+	
+	/**
+
+	Returns a parallel stream over the values in order
+	@return the stream
+	*/
+	public Stream<V> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+	
+	/**
+
+	Returns the first node of the subtree in the given order: its root in pre
+	order, the leftmost node in order and in post order the first leaf
+	reached going left whenever possible
+	*/
+	private static <K, V> TreeNode<K, V> firstNode(TreeNode<K, V> actual, int order) {
+		if ((actual == null) || (order == PRE_ORDER)) {
+			return actual;
+		}
+		
+		while (true) {
+			if (actual.getLeft() != null) {
+				actual = actual.getLeft();
+			} else if ((order == POST_ORDER) && (actual.getRight() != null)) {
+				actual = actual.getRight();
+			} else {
+				return actual;
+			}
+		}
+	}
+	
+	/**
+
+	Returns the node visited after actual in the given order, or null
+	*/
+	private static <K, V> TreeNode<K, V> nextNode(TreeNode<K, V> actual, int order) {
+		if (order == IN_ORDER) {
+			if (actual.getRight() != null) {
+				return firstNode(actual.getRight(), IN_ORDER);
+			}
+			TreeNode<K, V> parent = actual.getParent();
+			while ((parent != null) && (parent.getRight() == actual)) {
+				actual = parent;
+				parent = parent.getParent();
+			}
+			return parent;
+		} else if (order == PRE_ORDER) {
+			if (actual.getLeft() != null) {
+				return actual.getLeft();
+			}
+			if (actual.getRight() != null) {
+				return actual.getRight();
+			}
+			//Sube hasta un nodo cuya derecha no se ha visitado
+			TreeNode<K, V> parent = actual.getParent();
+			while ((parent != null) && ((parent.getRight() == actual) || (parent.getRight() == null))) {
+				actual = parent;
+				parent = parent.getParent();
+			}
+			return (parent != null) ? parent.getRight() : null;
+		} else {
+			TreeNode<K, V> parent = actual.getParent();
+			if ((parent != null) && (parent.getLeft() == actual) && (parent.getRight() != null)) {
+				return firstNode(parent.getRight(), POST_ORDER);
+			}
+			return parent;
+		}
+	}
+	
+	/**
+
+	Lazy iterator that keeps only the next node to visit
+	*/
+	private class TreeIterator implements Iterator<V> {
+		
+		private final int order;
+		private TreeNode<K, V> next;
+		
+		TreeIterator(int order) {
+			this.order = order;
+			this.next = firstNode(root, order);
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+		
+		@Override
+		public V next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			TreeNode<K, V> actual = next;
+			next = nextNode(actual, order);
+			return actual.getValue();
+		}
+	}
+	
+	/**
+
+	Spliterator over the nodes from current (included) to fence (excluded, null
+	is the end of the tree). side tells which split made it: 0 the whole tree,
+	-1 the left part of a split and 1 the right part; the next split point is
+	the root of the tree, fence.left or current.right respectively
+	*/
+	private class TreeSpliterator implements Spliterator<V> {
+		
+		private TreeNode<K, V> current;
+		private final TreeNode<K, V> fence;
+		private int side;
+		private int estimate; //-1 until the first node is looked up
+		
+		TreeSpliterator(TreeNode<K, V> current, TreeNode<K, V> fence, int side, int estimate) {
+			this.current = current;
+			this.fence = fence;
+			this.side = side;
+			this.estimate = estimate;
+		}
+		
+		private int getEstimate() {
+			if (estimate < 0) {
+				current = firstNode(root, IN_ORDER);
+				estimate = count;
+			}
+			return estimate;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super V> action) {
+			getEstimate();
+			if ((current == null) || (current == fence)) {
+				return false;
+			}
+			TreeNode<K, V> actual = current;
+			current = nextNode(actual, IN_ORDER);
+			action.accept(actual.getValue());
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super V> action) {
+			getEstimate();
+			TreeNode<K, V> actual = current;
+			current = fence;
+			while ((actual != null) && (actual != fence)) {
+				action.accept(actual.getValue());
+				actual = nextNode(actual, IN_ORDER);
+			}
+		}
+		
+		@Override
+		public Spliterator<V> trySplit() {
+			getEstimate();
+			TreeNode<K, V> split;
+			if ((current == null) || (current == fence)) {
+				split = null;
+			} else if (side == 0) {
+				split = root;
+			} else if (side > 0) {
+				split = current.getRight();
+			} else if (fence != null) {
+				split = fence.getLeft();
+			} else {
+				split = null;
+			}
+			
+			if ((split != null) && (split != current) && (split != fence)
+					&& (keyComparator.compare(current.getKey(), split.getKey()) < 0)) {
+				side = 1;
+				estimate >>>= 1;
+				TreeSpliterator prefix = new TreeSpliterator(current, split, -1, estimate);
+				current = split;
+				return prefix;
+			}
+			return null;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return getEstimate();
+		}
+		
+		@Override
+		public int characteristics() {
+			return (side == 0 ? Spliterator.SIZED : 0) | Spliterator.ORDERED;
+		}
+	}
 }
@@ -1,5 +1,10 @@
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -93,5 +98,60 @@ class BinarySearchTreeTest {
 		assertEquals(85, miRecorridoPreorder.getMiListado().get(4).getCarnet());		
 	}
 	
+	@Test
+	void IteratorsAndStreamTest() {
+		CarnetComparator<Integer> comparadorCarnet = new CarnetComparator<Integer> ();
+		ExtraerCarnetDeEstudiante<Integer, Estudiante> extractorCarnet = new ExtraerCarnetDeEstudiante<Integer, Estudiante>(); 
+		
+		BinarySearchTree<Integer, Estudiante> miArbolEstudiantes = new BinarySearchTree<Integer, Estudiante> (comparadorCarnet, extractorCarnet); 
+		
+		miArbolEstudiantes.add(new Estudiante(40, "Estudiante Prueba 1"));
+		miArbolEstudiantes.add(new Estudiante(20, "Estudiante Prueba 2"));
+		miArbolEstudiantes.add(new Estudiante(70, "Estudiante Prueba 3"));
+		miArbolEstudiantes.add(new Estudiante(25, "Estudiante Prueba 4"));
+		miArbolEstudiantes.add(new Estudiante(85, "Estudiante Prueba 5"));
+		
+		Iterator<Estudiante> inOrder = miArbolEstudiantes.inOrderIterator();
+		assertEquals(20, inOrder.next().getCarnet());
+		assertEquals(25, inOrder.next().getCarnet()); //se puede detener en cualquier momento
+		
+		Iterator<Estudiante> preOrder = miArbolEstudiantes.preOrderIterator();
+		assertEquals(40, preOrder.next().getCarnet());
+		assertEquals(20, preOrder.next().getCarnet());
+		assertEquals(25, preOrder.next().getCarnet());
+		assertEquals(70, preOrder.next().getCarnet());
+		
+		Iterator<Estudiante> postOrder = miArbolEstudiantes.postOrderIterator();
+		assertEquals(25, postOrder.next().getCarnet());
+		assertEquals(20, postOrder.next().getCarnet());
+		assertEquals(85, postOrder.next().getCarnet());
+		
+		List<Integer> carnets = miArbolEstudiantes.parallelStream().map(Estudiante::getCarnet).collect(Collectors.toList());
+		assertEquals(Arrays.asList(20, 25, 40, 70, 85), carnets);
+		assertEquals(195, miArbolEstudiantes.stream().mapToInt(Estudiante::getCarnet).filter(c -> c > 30).sum());
+	}
+	
+	@Test
+	void FromSortedAndInsertAllTest() {
+		CarnetComparator<Integer> comparadorCarnet = new CarnetComparator<Integer> ();
+		ExtraerCarnetDeEstudiante<Integer, Estudiante> extractorCarnet = new ExtraerCarnetDeEstudiante<Integer, Estudiante>(); 
+		
+		Integer[] carnets = {20, 25, 40, 70, 85};
+		Estudiante[] estudiantes = new Estudiante[carnets.length];
+		for (int i = 0; i < carnets.length; i++) {
+			estudiantes[i] = new Estudiante(carnets[i], "Estudiante Prueba " + i);
+		}
+		
+		BinarySearchTree<Integer, Estudiante> miArbolEstudiantes = BinarySearchTree.fromSorted(comparadorCarnet, extractorCarnet, carnets, estudiantes);
+		assertEquals(5, miArbolEstudiantes.count());
+		assertEquals(40, miArbolEstudiantes.preOrderIterator().next().getCarnet()); //el del medio es la raiz
+		
+		miArbolEstudiantes.insertAll(new Integer[] {90, 10, 40}, new Estudiante[] {new Estudiante(90, "Nuevo 1"), new Estudiante(10, "Nuevo 2"), new Estudiante(40, "Repetido")});
+		assertEquals(7, miArbolEstudiantes.count());
+		assertEquals("Estudiante Prueba 2", miArbolEstudiantes.search(40).getNombre());
+		
+		List<Integer> enOrden = miArbolEstudiantes.stream().map(Estudiante::getCarnet).collect(Collectors.toList());
+		assertEquals(Arrays.asList(10, 20, 25, 40, 70, 85, 90), enOrden);
+	}
 
 }
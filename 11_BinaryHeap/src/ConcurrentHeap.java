@@ -0,0 +1,183 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *
+ */
+
+/**
+ * Thread safe heap with a maximum capacity, for many producer and consumer
+ * threads. The elements are kept in a ConcurrentSkipListSet ordered from the
+ * greatest priority to the smallest, like the other heaps of this project;
+ * elements with the same priority leave in the order they came in. The skip
+ * list does not use locks, so inserts from different threads do not wait for
+ * each other, and insert and remove are O(log n).
+ *
+ * Two semaphores count the free places and the elements ready to be taken:
+ * put waits while the heap is full and take waits while it is empty.
+ *
+ * @author moises.alonso
+ *
+ */
+public class ConcurrentHeap<P, V> implements IHeap<P, V> {
+
+	private final int _capacity;
+	private final ConcurrentSkipListSet<HeapEntry<P, V>> _entries;
+	private final Semaphore _freePlaces;
+	private final Semaphore _readyElements;
+	private final AtomicLong _sequence;
+
+	/**
+	 * @param capacity maximum number of elements in the heap
+	 */
+	public ConcurrentHeap(Comparator<P> priorityComparator, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The capacity must be at least 1: " + capacity);
+		}
+		_capacity = capacity;
+		_entries = new ConcurrentSkipListSet<HeapEntry<P, V>>((a, b) -> {
+			int result = priorityComparator.compare(b._priority, a._priority); //greatest priority first
+			return (result != 0) ? result : Long.compare(a._sequence, b._sequence);
+		});
+		_freePlaces = new Semaphore(capacity);
+		_readyElements = new Semaphore(0);
+		_sequence = new AtomicLong();
+	}
+
+	/**
+	 * Inserts without waiting.
+	 *
+	 * @throws IllegalStateException if the heap is full
+	 */
+	@Override
+	public void Insert(P priority, V value) {
+		if (!offer(priority, value)) {
+			throw new IllegalStateException("The heap is full, capacity " + _capacity);
+		}
+	}
+
+	/**
+	 * Inserts if there is a free place, returns false when the heap is full.
+	 */
+	public boolean offer(P priority, V value) {
+		if (!_freePlaces.tryAcquire()) {
+			return false;
+		}
+		add(priority, value);
+		return true;
+	}
+
+	/**
+	 * Inserts, waiting while the heap is full.
+	 */
+	public void put(P priority, V value) throws InterruptedException {
+		_freePlaces.acquire();
+		add(priority, value);
+	}
+
+	private void add(P priority, V value) {
+		try {
+			_entries.add(new HeapEntry<P, V>(priority, value, _sequence.getAndIncrement()));
+		} catch (RuntimeException | Error e) {
+			//the comparator failed, the place taken for this value is free again
+			_freePlaces.release();
+			throw e;
+		}
+		_readyElements.release();
+	}
+
+	/**
+	 * Value with the greatest priority, or null when the heap is empty. Other
+	 * threads may remove it before the caller uses it.
+	 */
+	@Override
+	public V get() {
+		HeapEntry<P, V> first = firstOrNull();
+		return (first != null) ? first._value : null;
+	}
+
+	/**
+	 * Removes the value with the greatest priority without waiting, returns
+	 * null when the heap is empty.
+	 */
+	@Override
+	public V remove() {
+		if (!_readyElements.tryAcquire()) {
+			return null;
+		}
+		return removeFirst();
+	}
+
+	/**
+	 * Removes the value with the greatest priority, waiting while the heap is
+	 * empty.
+	 */
+	public V take() throws InterruptedException {
+		_readyElements.acquire();
+		return removeFirst();
+	}
+
+	/**
+	 * Like take, but gives up after the timeout and returns null.
+	 */
+	public V poll(long timeout, TimeUnit unit) throws InterruptedException {
+		if (!_readyElements.tryAcquire(timeout, unit)) {
+			return null;
+		}
+		return removeFirst();
+	}
+
+	/**
+	 * Called with a permit of _readyElements, so there is an element in the
+	 * skip list for this thread.
+	 */
+	private V removeFirst() {
+		HeapEntry<P, V> first = _entries.pollFirst();
+		_freePlaces.release();
+		return first._value;
+	}
+
+	private HeapEntry<P, V> firstOrNull() {
+		try {
+			return _entries.first();
+		} catch (NoSuchElementException e) { //the heap is empty
+			return null;
+		}
+	}
+
+	/**
+	 * Number of elements ready to be taken. With other threads working on the
+	 * heap it is only an estimate.
+	 */
+	@Override
+	public int count() {
+		return _readyElements.availablePermits();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count() == 0;
+	}
+
+	public int capacity() {
+		return _capacity;
+	}
+
+	private static final class HeapEntry<P, V> {
+
+		private final P _priority;
+		private final V _value;
+		private final long _sequence; //order of arrival, breaks ties
+
+		HeapEntry(P priority, V value, long sequence) {
+			_priority = priority;
+			_value = value;
+			_sequence = sequence;
+		}
+	}
+
+}
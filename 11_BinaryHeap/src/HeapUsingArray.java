@@ -0,0 +1,143 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ *
+ */
+
+/**
+ * Heap stored as an implicit binary tree in two parallel arrays, one with the
+ * priorities and one with the values. The children of position i are 2i+1 and
+ * 2i+2 and its parent is (i-1)/2, so Insert and remove move through the tree
+ * with index arithmetic instead of TreeNode pointers and binary paths. Like
+ * HeapUsingIterativeBinaryTree, the value with the greatest priority is at
+ * the top.
+ *
+ * Insert and remove are O(log n) and do not create any object; the arrays
+ * only grow (doubling) when they are full, so with the capacity given in the
+ * constructor there is no allocation at all.
+ *
+ * @author moises.alonso
+ *
+ */
+public class HeapUsingArray<P, V> implements IHeap<P, V> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int _count;
+	private Object[] _priorities;
+	private Object[] _values;
+	private Comparator<P> _priorityComparator;
+
+	public HeapUsingArray(Comparator<P> priorityComparator) {
+		this(priorityComparator, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity elements that fit before the arrays have to grow
+	 */
+	public HeapUsingArray(Comparator<P> priorityComparator, int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("The capacity can not be negative: " + initialCapacity);
+		}
+		_count = 0;
+		_priorityComparator = priorityComparator;
+		_priorities = new Object[Math.max(initialCapacity, 1)];
+		_values = new Object[_priorities.length];
+	}
+
+	@Override
+	public void Insert(P priority, V value) {
+		if (_count == _priorities.length) {
+			int newCapacity = _priorities.length << 1;
+			if (newCapacity < 0) { //overflow
+				newCapacity = Integer.MAX_VALUE - 8;
+			}
+			_priorities = Arrays.copyOf(_priorities, newCapacity);
+			_values = Arrays.copyOf(_values, newCapacity);
+		}
+
+		//Subir el hueco mientras el padre tenga menor prioridad
+		int position = _count;
+		while (position > 0) {
+			int parent = (position - 1) >>> 1;
+			if (_priorityComparator.compare(priority, priorityAt(parent)) <= 0) {
+				break;
+			}
+			_priorities[position] = _priorities[parent];
+			_values[position] = _values[parent];
+			position = parent;
+		}
+		_priorities[position] = priority;
+		_values[position] = value;
+		_count++;
+	}
+
+	@Override
+	public V get() {
+		if (isEmpty())
+			return null;
+		else
+			return valueAt(0);
+	}
+
+	@Override
+	public V remove() {
+		if (isEmpty()) {
+			return null;
+		}
+
+		V top = valueAt(0);
+
+		// El ultimo elemento toma el lugar de la raiz
+		_count--;
+		P lastPriority = priorityAt(_count);
+		Object lastValue = _values[_count];
+		_priorities[_count] = null;
+		_values[_count] = null;
+
+		if (_count > 0) {
+			//Bajar el hueco mientras algun hijo tenga mayor prioridad
+			int position = 0;
+			int half = _count >>> 1; //las posiciones desde half son hojas
+			while (position < half) {
+				int child = (position << 1) + 1;
+				int right = child + 1;
+				if ((right < _count) && (_priorityComparator.compare(priorityAt(right), priorityAt(child)) > 0)) {
+					child = right;
+				}
+				if (_priorityComparator.compare(lastPriority, priorityAt(child)) >= 0) {
+					break;
+				}
+				_priorities[position] = _priorities[child];
+				_values[position] = _values[child];
+				position = child;
+			}
+			_priorities[position] = lastPriority;
+			_values[position] = lastValue;
+		}
+
+		return top;
+	}
+
+	@Override
+	public int count() {
+		return _count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _count == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private P priorityAt(int position) {
+		return (P) _priorities[position];
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int position) {
+		return (V) _values[position];
+	}
+
+}
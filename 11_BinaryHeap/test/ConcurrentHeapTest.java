@@ -0,0 +1,119 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentHeapTest {
+
+	@Test
+	void test() {
+		ConcurrentHeap<Integer, String> myHeap = new ConcurrentHeap<Integer, String>(new ComparadorNumeros<Integer>(), 6);
+		myHeap.Insert(20, "veinte");
+		myHeap.Insert(10, "diez");
+		myHeap.Insert(15, "quince");
+		myHeap.Insert(5, "cinco");
+		myHeap.Insert(10, "otro diez");
+		myHeap.Insert(15, "otro quince");
+
+		assertEquals(6, myHeap.count());
+		assertFalse(myHeap.offer(30, "treinta"));
+		assertThrows(IllegalStateException.class, () -> myHeap.Insert(30, "treinta"));
+
+		assertEquals("veinte", myHeap.get());
+		assertEquals("veinte", myHeap.remove());
+		assertEquals("quince", myHeap.remove());
+		assertEquals("otro quince", myHeap.remove());
+		assertEquals("diez", myHeap.remove());
+		assertEquals("otro diez", myHeap.remove());
+		assertEquals("cinco", myHeap.remove());
+
+		assertTrue(myHeap.isEmpty());
+		assertNull(myHeap.get());
+		assertNull(myHeap.remove());
+	}
+
+	@Test
+	void failedInsertKeepsCapacity() {
+		ConcurrentHeap<Integer, String> myHeap = new ConcurrentHeap<Integer, String>(Integer::compare, 2);
+		myHeap.Insert(1, "uno");
+		for (int i = 0; i < 5; i++) {
+			assertThrows(NullPointerException.class, () -> myHeap.offer(null, "nulo"));
+		}
+
+		assertEquals(1, myHeap.count());
+		assertTrue(myHeap.offer(2, "dos"));
+		assertFalse(myHeap.offer(3, "tres"));
+		assertEquals("dos", myHeap.remove());
+		assertEquals("uno", myHeap.remove());
+		assertNull(myHeap.remove());
+	}
+
+	@Test
+	void takeWaitsForPut() throws InterruptedException {
+		ConcurrentHeap<Integer, Integer> myHeap = new ConcurrentHeap<Integer, Integer>(Integer::compare, 1);
+		assertNull(myHeap.poll(10, TimeUnit.MILLISECONDS));
+
+		Thread producer = new Thread(() -> {
+			try {
+				for (int i = 0; i < 100; i++) {
+					myHeap.put(i, i); //waits until the value before is taken
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		producer.start();
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, (int) myHeap.take());
+			assertTrue(myHeap.count() <= 1);
+		}
+		producer.join();
+	}
+
+	@Test
+	void manyProducersAndConsumers() throws InterruptedException {
+		int producers = 32;
+		int consumers = 4;
+		int perProducer = 5000;
+		ConcurrentHeap<Integer, Integer> myHeap = new ConcurrentHeap<Integer, Integer>(Integer::compare, 64);
+		AtomicLong sum = new AtomicLong();
+		ArrayList<Thread> threads = new ArrayList<Thread>();
+
+		for (int p = 0; p < producers; p++) {
+			threads.add(new Thread(() -> {
+				try {
+					for (int i = 1; i <= perProducer; i++) {
+						myHeap.put(i, i);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+		}
+		for (int c = 0; c < consumers; c++) {
+			threads.add(new Thread(() -> {
+				try {
+					for (int i = 0; i < producers * perProducer / consumers; i++) {
+						sum.addAndGet(myHeap.take());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join(60000);
+		}
+
+		assertEquals((long) producers * perProducer * (perProducer + 1) / 2, sum.get());
+		assertTrue(myHeap.isEmpty());
+	}
+
+}
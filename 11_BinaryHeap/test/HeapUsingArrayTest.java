@@ -0,0 +1,68 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HeapUsingArrayTest {
+
+	@Test
+	void test() {
+		HeapUsingArray<Integer, String> myHeap = new HeapUsingArray<Integer, String>(new ComparadorNumeros<Integer>());
+		myHeap.Insert(20, "veinte");
+		myHeap.Insert(10, "diez");
+		myHeap.Insert(15, "quince");
+		myHeap.Insert(5, "cinco");
+		myHeap.Insert(10, "diez");
+		myHeap.Insert(15, "quince");
+
+		assertEquals(6, myHeap.count());
+		assertEquals("veinte", myHeap.get());
+
+		assertEquals("veinte", myHeap.remove());
+		assertEquals("quince", myHeap.remove());
+		assertEquals("quince", myHeap.remove());
+		assertEquals("diez", myHeap.remove());
+		assertEquals("diez", myHeap.remove());
+		assertEquals("cinco", myHeap.remove());
+
+		assertTrue(myHeap.isEmpty());
+		assertNull(myHeap.get());
+		assertNull(myHeap.remove());
+	}
+
+	@Test
+	void sameOrderAsIterativeHeap() {
+		HeapUsingArray<Integer, Integer> arrayHeap = new HeapUsingArray<Integer, Integer>(Integer::compare, 1);
+		HeapUsingIterativeBinaryTree<Integer, Integer> treeHeap = new HeapUsingIterativeBinaryTree<Integer, Integer>(Integer::compare);
+		Random random = new Random(42);
+
+		for (int i = 0; i < 5000; i++) {
+			if (random.nextInt(3) > 0) {
+				int priority = random.nextInt(1000);
+				arrayHeap.Insert(priority, priority);
+				treeHeap.Insert(priority, priority);
+			} else {
+				assertEquals(treeHeap.remove(), arrayHeap.remove());
+			}
+			assertEquals(treeHeap.count(), arrayHeap.count());
+			assertEquals(treeHeap.get(), arrayHeap.get());
+		}
+	}
+
+	@Test
+	void manySortedInserts() {
+		int size = 1000000;
+		HeapUsingArray<Integer, Integer> myHeap = new HeapUsingArray<Integer, Integer>(Integer::compare, size);
+		for (int i = 0; i < size; i++) {
+			myHeap.Insert(i, i);
+		}
+
+		assertEquals(size, myHeap.count());
+		for (int i = size - 1; i >= 0; i--) {
+			assertEquals(i, (int) myHeap.remove());
+		}
+		assertTrue(myHeap.isEmpty());
+	}
+
+}
@@ -0,0 +1,323 @@
+// An indexed min heap of int ids in primitive arrays.
+package structure5;
+import java.util.Arrays;
+
+/**
+ * A min heap of integer ids from 0 to capacity-1, each one with a
+ * double priority.  It is the heap of {@link VectorHeap}, with the same
+ * percolateUp and pushDownRoot logic, but it also remembers the position
+ * of every id in the heap.  That allows the priority of an id to be
+ * changed or the id to be removed in logarithmic time, without removing
+ * and adding it again.  The heap, the positions and the priorities are
+ * int and double arrays, so no objects are created after construction.
+ *
+ * <P>
+ * Example usage:
+ * <P>
+ * To keep the N ids with the greatest priority of a stream of updates,
+ * the smallest of them at the top:
+ * <pre>
+ * public static void main(String[] argv){
+ *      IndexMinHeap top = new {@link #IndexMinHeap(int) IndexMinHeap(1000)};
+ *      int n = 10;
+ *
+ *      for each update (id, priority) of the stream:
+ *          if (top.{@link #contains(int) contains(id)} || top.{@link #size()} &lt; n) {
+ *              top.{@link #update(int, double) update(id, priority)};
+ *          } else if (priority &gt; top.{@link #peekPriority()}) {
+ *              top.{@link #remove()};
+ *              top.update(id, priority);
+ *          }
+ * }
+ * </pre>
+ * @author MAAG
+ */
+public class IndexMinHeap
+{
+    /**
+     * The ids, kept in heap order.
+     */
+    protected int[] heap;
+
+    /**
+     * The index of each id in heap, -1 if it is not in the heap.
+     */
+    protected int[] position;
+
+    /**
+     * The priority of each id.
+     */
+    protected double[] priority;
+
+    /**
+     * The number of ids within the heap.
+     */
+    protected int count;
+
+    /**
+     * Construct an empty heap for the ids 0 to capacity-1.
+     *
+     * @pre capacity >= 0
+     * @post constructs a new, empty, indexed heap
+     *
+     * @param capacity The number of possible ids.
+     */
+    public IndexMinHeap(int capacity)
+    {
+        Assert.pre(capacity >= 0, "Capacity is not negative.");
+        heap = new int[capacity];
+        position = new int[capacity];
+        priority = new double[capacity];
+        Arrays.fill(position, -1);
+        count = 0;
+    }
+
+    /**
+     * Determine if an id is within the heap.
+     *
+     * @pre 0 <= id < capacity
+     * @post returns true iff the id is in the heap
+     *
+     * @param id The id to look for.
+     * @return True if the id is in the heap.
+     */
+    public boolean contains(int id)
+    {
+        checkId(id);
+        return position[id] >= 0;
+    }
+
+    /**
+     * Add an id with a priority or, if it is already in the heap,
+     * change its priority, moving it up or down as needed.
+     *
+     * @pre 0 <= id < capacity
+     * @post the id is in the heap with the new priority
+     *
+     * @param id The id to add or update.
+     * @param newPriority The priority of the id.
+     */
+    public void update(int id, double newPriority)
+    {
+        checkId(id);
+        int index = position[id];
+        if (index < 0)
+        {
+            heap[count] = id;
+            position[id] = count;
+            priority[id] = newPriority;
+            count++;
+            percolateUp(count-1);
+        } else {
+            double oldPriority = priority[id];
+            priority[id] = newPriority;
+            if (Double.compare(newPriority, oldPriority) < 0) percolateUp(index);
+            else pushDownRoot(index);
+        }
+    }
+
+    /**
+     * Fetch the id with the lowest priority.
+     *
+     * @pre !isEmpty()
+     * @post returns the id with the minimum priority
+     *
+     * @return The id at the top of the heap.
+     */
+    public int peek()
+    {
+        Assert.pre(!isEmpty(), "Heap is not empty.");
+        return heap[0];
+    }
+
+    /**
+     * Fetch the lowest priority.
+     *
+     * @pre !isEmpty()
+     * @post returns the minimum priority in the heap
+     *
+     * @return The priority of the id at the top of the heap.
+     */
+    public double peekPriority()
+    {
+        return priority[peek()];
+    }
+
+    /**
+     * Fetch the priority of an id.
+     *
+     * @pre contains(id)
+     * @post returns the priority of the id
+     *
+     * @param id An id within the heap.
+     * @return The priority of the id.
+     */
+    public double getPriority(int id)
+    {
+        Assert.pre(contains(id), "Id is in the heap.");
+        return priority[id];
+    }
+
+    /**
+     * Remove the id with the lowest priority.
+     *
+     * @pre !isEmpty()
+     * @post returns and removes the id with the minimum priority
+     *
+     * @return The id that was at the top of the heap.
+     */
+    public int remove()
+    {
+        int id = peek();
+        remove(id);
+        return id;
+    }
+
+    /**
+     * Remove an id, wherever it is in the heap.
+     *
+     * @pre 0 <= id < capacity
+     * @post the id is not in the heap
+     *
+     * @param id The id to remove.
+     * @return True if the id was in the heap.
+     */
+    public boolean remove(int id)
+    {
+        checkId(id);
+        int index = position[id];
+        if (index < 0) return false;
+        count--;
+        position[id] = -1;
+        if (index < count)
+        {   // the last id fills the hole
+            int last = heap[count];
+            heap[index] = last;
+            position[last] = index;
+            pushDownRoot(index);
+            if (heap[index] == last) percolateUp(index);
+        }
+        return true;
+    }
+
+    /**
+     * Determine the size of the heap.
+     *
+     * @post returns number of ids within the heap
+     *
+     * @return The number of ids within the heap.
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /**
+     * Determine if the heap is empty.
+     *
+     * @post returns true iff no ids are in the heap
+     *
+     * @return True if the heap is empty.
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Remove all the ids from the heap.
+     *
+     * @post removes all ids from the heap
+     */
+    public void clear()
+    {
+        for (int i = 0; i < count; i++)
+        {
+            position[heap[i]] = -1;
+        }
+        count = 0;
+    }
+
+    /**
+     * Moves node upward to appropriate position within heap.
+     * @param leaf Index of the node in the heap.
+     * @pre 0 <= leaf < size
+     * @post moves node at index leaf up to appropriate position
+     */
+    protected void percolateUp(int leaf)
+    {
+        int parent = VectorHeap.parent(leaf);
+        int id = heap[leaf];
+        double value = priority[id];
+        while (leaf > 0 &&
+          (Double.compare(value, priority[heap[parent]]) < 0))
+        {
+            move(parent, leaf);
+            leaf = parent;
+            parent = VectorHeap.parent(leaf);
+        }
+        heap[leaf] = id;
+        position[id] = leaf;
+    }
+
+    /**
+     * Moves node downward, into appropriate position within subheap.
+     * @param root Index of the root of the subheap.
+     * @pre 0 <= root < size
+     * @post moves node at index root down
+     *   to appropriate position in subtree
+     */
+    protected void pushDownRoot(int root)
+    {
+        int id = heap[root];
+        double value = priority[id];
+        while (true) {
+            int childpos = VectorHeap.left(root);
+            if (childpos >= count) break; // at a leaf
+            if ((VectorHeap.right(root) < count) &&
+              (Double.compare(priority[heap[childpos+1]], priority[heap[childpos]]) < 0))
+            {
+                childpos++;
+            }
+            // Assert: childpos indexes smaller of two children
+            if (Double.compare(priority[heap[childpos]], value) >= 0) break;
+            move(childpos, root);
+            root = childpos; // keep moving down
+        }
+        heap[root] = id;
+        position[id] = root;
+    }
+
+    /**
+     * Copy the id at index from into index to, updating its position.
+     */
+    private void move(int from, int to)
+    {
+        int id = heap[from];
+        heap[to] = id;
+        position[id] = to;
+    }
+
+    private void checkId(int id)
+    {
+        Assert.pre(0 <= id && id < position.length, "Id is within capacity.");
+    }
+
+    /**
+     * Construct a string representation of the heap.
+     *
+     * @post returns string representation of heap
+     *
+     * @return The string representing the heap.
+     */
+    public String toString()
+    {
+        StringBuffer sb = new StringBuffer();
+        sb.append("<IndexMinHeap:");
+        for (int i = 0; i < count; i++)
+        {
+            sb.append(" "+heap[i]+"="+priority[heap[i]]);
+        }
+        return sb+">";
+    }
+}
@@ -0,0 +1,474 @@
+// A hash table from int keys to values, with open addressing.
+package structure5;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implements a dictionary from int keys to values as a table with open
+ * addressing.  Unlike {@link Hashtable}, the keys are kept in an int
+ * array and the values in a parallel array, so a lookup does not create
+ * an Integer and does not follow a reference to an association: it
+ * compares ints in the key array until it finds the key or an empty slot.
+ * <P>
+ * The size of the table is a power of two, so the slot of a key is its
+ * mixed hash masked with size-1 instead of a remainder.  Collisions are
+ * resolved through linear probing.  When a key is removed the keys that
+ * follow it in the same run move back (backward shift deletion), so
+ * there are no reserved slots and lookups never get slower after many
+ * removals.  The table doubles when the load factor reaches
+ * maximumLoadFactor.
+ * <P>
+ * The value 0 marks the empty slots of the key array, so the key 0 is
+ * kept outside the table.  {@link #asMap()} returns a {@link Map} view of
+ * the table for the code that works with structure5 maps.
+ * <P>
+ * Example Usage:
+ * <P>
+ * <pre>
+ * public static void main (String[] argv){
+ *      IntHashtable&lt;String&gt; students = new {@link #IntHashtable()};
+ *      students.{@link #put(int,Object) put(23001, "Ana")};
+ *      students.put(23002, "Luis");
+ *      System.out.println(students.{@link #get(int) get(23001)});
+ * }
+ * </pre>
+ * @author MAAG
+ * @see IntIntHashtable
+ */
+public class IntHashtable<V> implements Iterable<V>
+{
+    /**
+     * The key that marks an empty slot of the table.
+     */
+    protected static final int FREE = 0;
+
+    /**
+     * The keys, FREE for the empty slots.
+     */
+    protected int[] keys;
+
+    /**
+     * The value of the key in the same slot.
+     */
+    protected Object[] values;
+
+    /**
+     * The size of the table minus one.
+     */
+    protected int mask;
+
+    /**
+     * The number of key-value pairs in table, including the key 0.
+     */
+    protected int count;
+
+    /**
+     * True if the key 0 is in the table; its value is zeroValue.
+     */
+    protected boolean hasZeroKey;
+
+    /**
+     * The value of the key 0.
+     */
+    protected V zeroValue;
+
+    /**
+     * The maximum load factor that causes the table to grow.
+     */
+    protected final double maximumLoadFactor = 0.6;
+
+    /**
+     * Construct a hash table that can hold initialCapacity pairs before
+     * it has to grow.
+     *
+     * @pre initialCapacity >= 0
+     * @post constructs a new, empty, IntHashtable
+     *
+     * @param initialCapacity The expected number of pairs.
+     */
+    public IntHashtable(int initialCapacity)
+    {
+        Assert.pre(initialCapacity >= 0, "Hashtable capacity must not be negative.");
+        allocate(tableSizeFor(initialCapacity, maximumLoadFactor));
+        count = 0;
+    }
+
+    /**
+     * Construct a hash table that is initially empty.
+     *
+     * @post constructs a new, empty, IntHashtable
+     */
+    public IntHashtable()
+    {
+        this(16);
+    }
+
+    /**
+     * Remove all key-value pairs from hashtable.
+     *
+     * @post removes all elements from IntHashtable
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        count = 0;
+    }
+
+    /**
+     * Return the number of key-value pairs within the table.
+     *
+     * @post returns number of elements in hash table
+     *
+     * @return The number of key-value pairs currently in table.
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /**
+     * Determine if table is empty.
+     *
+     * @post returns true iff hash table has 0 elements
+     *
+     * @return True if table is empty.
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Returns true iff a specific key appears within the table.
+     *
+     * @post returns true if key appears in hash table
+     *
+     * @param key The key sought.
+     * @return True iff the key sought appears within table.
+     */
+    public boolean containsKey(int key)
+    {
+        if (key == FREE) return hasZeroKey;
+        return locate(key) >= 0;
+    }
+
+    /**
+     * Returns true if a specific value appears within the table.
+     *
+     * @post returns true iff hash table contains value
+     *
+     * @param value The value sought, may be null.
+     * @return True iff the value appears within the table.
+     */
+    public boolean containsValue(V value)
+    {
+        for (V tableValue : this) {
+            if (value == null ? tableValue == null : value.equals(tableValue)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the value associated with a key.
+     *
+     * @post returns value associated with key, or null
+     *
+     * @param key The key used to find the desired value.
+     * @return The value associated with the desired key.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key)
+    {
+        if (key == FREE) return zeroValue;
+        int slot = locate(key);
+        return (slot >= 0) ? (V)values[slot] : null;
+    }
+
+    /**
+     * Place a key-value pair within the table.
+     *
+     * @post key-value pair is added to hash table
+     *
+     * @param key The key to be added to table.
+     * @param value The value associated with key.
+     * @return The old value associated with key if previously present.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value)
+    {
+        if (key == FREE) {
+            V oldValue = zeroValue;
+            if (!hasZeroKey) count++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return oldValue;
+        }
+        int slot = locate(key);
+        if (slot >= 0) {
+            // full slot; add new and return old value
+            V oldValue = (V)values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        slot = -slot - 1;
+        keys[slot] = key;
+        values[slot] = value;
+        count++;
+        if (count > maximumLoadFactor*keys.length) extend();
+        return null;
+    }
+
+    /**
+     * Remove a key-value pair from the table.
+     *
+     * @post removes key-value pair associated with key
+     *
+     * @param key The key of the key-value pair to be removed.
+     * @return The value associated with the removed key.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key)
+    {
+        if (key == FREE) {
+            V oldValue = zeroValue;
+            if (hasZeroKey) count--;
+            hasZeroKey = false;
+            zeroValue = null;
+            return oldValue;
+        }
+        int slot = locate(key);
+        if (slot < 0) return null;
+        V oldValue = (V)values[slot];
+        count--;
+        shiftBack(slot);
+        return oldValue;
+    }
+
+    /**
+     * Returns the keys of the table, in no particular order.
+     *
+     * @post returns a new array with the keys of the table
+     *
+     * @return The keys within the table.
+     */
+    public int[] keys()
+    {
+        int[] result = new int[count];
+        int n = 0;
+        if (hasZeroKey) result[n++] = FREE;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) result[n++] = keys[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a traversal that traverses over the values of the
+     * hashtable.
+     *
+     * @post returns traversal to traverse hash table
+     *
+     * @return A value traversal, over the values of the table.
+     */
+    public Iterator<V> iterator()
+    {
+        return new Iterator<V>() {
+            // -1 stands for the key 0, outside the table
+            private int slot = hasZeroKey ? -1 : nextSlot(0);
+
+            public boolean hasNext()
+            {
+                return slot < keys.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            public V next()
+            {
+                if (!hasNext()) throw new NoSuchElementException();
+                V result = (slot < 0) ? zeroValue : (V)values[slot];
+                slot = nextSlot(slot+1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns a view of this table as a structure5 Map.  The view boxes
+     * the keys; changes through the view change the table.
+     *
+     * @post returns a Map backed by this table
+     *
+     * @return The Map view of the table.
+     */
+    public Map<Integer,V> asMap()
+    {
+        return new AbstractMap<Integer,V>()
+        {
+            public int size() { return IntHashtable.this.size(); }
+            public boolean isEmpty() { return IntHashtable.this.isEmpty(); }
+            public boolean containsKey(Integer k) { return IntHashtable.this.containsKey(k); }
+            public boolean containsValue(V v) { return IntHashtable.this.containsValue(v); }
+            public V get(Integer k) { return IntHashtable.this.get(k); }
+            public V put(Integer k, V v) { return IntHashtable.this.put(k, v); }
+            public V remove(Integer k) { return IntHashtable.this.remove(k); }
+            public void clear() { IntHashtable.this.clear(); }
+
+            public Set<Integer> keySet()
+            {
+                Set<Integer> result = new SetList<Integer>();
+                for (int k : keys()) result.add(k);
+                return result;
+            }
+
+            public Structure<V> values()
+            {
+                List<V> result = new SinglyLinkedList<V>();
+                for (V v : IntHashtable.this) result.add(v);
+                return result;
+            }
+
+            public Set<Association<Integer,V>> entrySet()
+            {
+                Set<Association<Integer,V>> result = new SetList<Association<Integer,V>>();
+                for (int k : keys()) result.add(new Association<Integer,V>(k, IntHashtable.this.get(k)));
+                return result;
+            }
+
+            public String toString() { return IntHashtable.this.toString(); }
+        };
+    }
+
+    /**
+     * Mix the bits of the key, so that keys that differ only in their high
+     * bits, like consecutive multiples of the table size, fall in different
+     * slots.
+     */
+    protected static int hash(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the slot of the key or, if it is not in the table,
+     * -(slot where it would go)-1.
+     *
+     * @pre key != FREE
+     */
+    protected int locate(int key)
+    {
+        int slot = hash(key) & mask;
+        int k;
+        while ((k = keys[slot]) != FREE)
+        {
+            if (k == key) return slot;
+            // linear probing
+            slot = (slot+1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Empty a slot and move back the keys after it that belong before it,
+     * so that no run of keys has a hole.
+     *
+     * @pre the slot holds a key
+     * @post the slot's pair is gone and every key is reachable from its
+     *       home slot without crossing an empty slot
+     */
+    protected void shiftBack(int hole)
+    {
+        int slot = (hole+1) & mask;
+        int k;
+        while ((k = keys[slot]) != FREE)
+        {
+            int home = hash(k) & mask;
+            // the key can move if the hole is between its home and its slot
+            if (((slot - home) & mask) >= ((slot - hole) & mask))
+            {
+                keys[hole] = k;
+                values[hole] = values[slot];
+                hole = slot;
+            }
+            slot = (slot+1) & mask;
+        }
+        keys[hole] = FREE;
+        values[hole] = null;
+    }
+
+    /**
+     * @post doubles the table to reduce loading
+     */
+    protected void extend()
+    {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            int k = oldKeys[i];
+            if (k != FREE)
+            {
+                int slot = -locate(k) - 1;
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int tableSize)
+    {
+        Assert.condition(tableSize > 0, "Hashtable size must be greater than 0.");
+        keys = new int[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+    }
+
+    /**
+     * First slot at or after index that holds a key, or the size of the
+     * table if there is none.
+     */
+    private int nextSlot(int index)
+    {
+        while (index < keys.length && keys[index] == FREE) index++;
+        return index;
+    }
+
+    /**
+     * The smallest power of two that holds pairs with the load factor
+     * under loadFactor.
+     */
+    static int tableSizeFor(int pairs, double loadFactor)
+    {
+        long needed = (long)Math.ceil(pairs / loadFactor) + 1;
+        int size = 2;
+        while (size < needed) {
+            size <<= 1;
+            Assert.condition(size > 0, "Hashtable capacity is too large.");
+        }
+        return size;
+    }
+
+    /**
+     * Generate a string representation of the hash table.
+     *
+     * @post returns a string representation of hash table
+     *
+     * @return The string representing the table.
+     */
+    public String toString()
+    {
+        StringBuffer s = new StringBuffer();
+        s.append("<IntHashtable: size="+size()+" capacity="+keys.length);
+        if (hasZeroKey) s.append(" key=0, value="+zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) s.append(" key="+keys[i]+", value="+values[i]);
+        }
+        s.append(">");
+        return s.toString();
+    }
+}
@@ -0,0 +1,448 @@
+// A hash table from int keys to int values, with open addressing.
+package structure5;
+import java.util.Arrays;
+
+/**
+ * Implements a dictionary from int keys to int values as a table with
+ * open addressing, the int to int version of {@link IntHashtable}: the
+ * keys and the values are kept in two int arrays, so neither a lookup
+ * nor an insertion creates an object.  The table size is a power of two,
+ * collisions are resolved with linear probing and removals use backward
+ * shift deletion, as in IntHashtable.
+ * <P>
+ * Since an int value can not be null, get, put and remove return
+ * noEntryValue (0 unless given to the constructor) when the key is not in
+ * the table; use {@link #containsKey(int)} when that value is a valid one.
+ * <P>
+ * Example Usage:
+ * <P>
+ * To count how many times each number appears:
+ * <pre>
+ * public static void main (String[] argv){
+ *      IntIntHashtable counts = new {@link #IntIntHashtable()};
+ *      for (int n : numbers) {
+ *          counts.{@link #addTo(int,int) addTo(n, 1)};
+ *      }
+ *      System.out.println(counts.{@link #get(int) get(7)});
+ * }
+ * </pre>
+ * @author MAAG
+ * @see IntHashtable
+ */
+public class IntIntHashtable
+{
+    /**
+     * The key that marks an empty slot of the table.
+     */
+    protected static final int FREE = IntHashtable.FREE;
+
+    /**
+     * The keys, FREE for the empty slots.
+     */
+    protected int[] keys;
+
+    /**
+     * The value of the key in the same slot.
+     */
+    protected int[] values;
+
+    /**
+     * The size of the table minus one.
+     */
+    protected int mask;
+
+    /**
+     * The number of key-value pairs in table, including the key 0.
+     */
+    protected int count;
+
+    /**
+     * True if the key 0 is in the table; its value is zeroValue.
+     */
+    protected boolean hasZeroKey;
+
+    /**
+     * The value of the key 0.
+     */
+    protected int zeroValue;
+
+    /**
+     * The value returned for the keys that are not in the table.
+     */
+    protected final int noEntryValue;
+
+    /**
+     * The maximum load factor that causes the table to grow.
+     */
+    protected final double maximumLoadFactor = 0.6;
+
+    /**
+     * Construct a hash table that can hold initialCapacity pairs before
+     * it has to grow.
+     *
+     * @pre initialCapacity >= 0
+     * @post constructs a new, empty, IntIntHashtable
+     *
+     * @param initialCapacity The expected number of pairs.
+     * @param noEntryValue The value returned for missing keys.
+     */
+    public IntIntHashtable(int initialCapacity, int noEntryValue)
+    {
+        Assert.pre(initialCapacity >= 0, "Hashtable capacity must not be negative.");
+        this.noEntryValue = noEntryValue;
+        allocate(IntHashtable.tableSizeFor(initialCapacity, maximumLoadFactor));
+        count = 0;
+    }
+
+    /**
+     * Construct a hash table that is initially empty, 0 is returned for
+     * missing keys.
+     *
+     * @post constructs a new, empty, IntIntHashtable
+     */
+    public IntIntHashtable()
+    {
+        this(16, 0);
+    }
+
+    /**
+     * Remove all key-value pairs from hashtable.
+     *
+     * @post removes all elements from IntIntHashtable
+     */
+    public void clear()
+    {
+        Arrays.fill(keys, FREE);
+        hasZeroKey = false;
+        count = 0;
+    }
+
+    /**
+     * Return the number of key-value pairs within the table.
+     *
+     * @post returns number of elements in hash table
+     *
+     * @return The number of key-value pairs currently in table.
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /**
+     * Determine if table is empty.
+     *
+     * @post returns true iff hash table has 0 elements
+     *
+     * @return True if table is empty.
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Returns true iff a specific key appears within the table.
+     *
+     * @post returns true if key appears in hash table
+     *
+     * @param key The key sought.
+     * @return True iff the key sought appears within table.
+     */
+    public boolean containsKey(int key)
+    {
+        if (key == FREE) return hasZeroKey;
+        return locate(key) >= 0;
+    }
+
+    /**
+     * Returns true if a specific value appears within the table.
+     *
+     * @post returns true iff hash table contains value
+     *
+     * @param value The value sought.
+     * @return True iff the value appears within the table.
+     */
+    public boolean containsValue(int value)
+    {
+        if (hasZeroKey && zeroValue == value) return true;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE && values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the value associated with a key.
+     *
+     * @post returns value associated with key, or noEntryValue
+     *
+     * @param key The key used to find the desired value.
+     * @return The value associated with the desired key.
+     */
+    public int get(int key)
+    {
+        if (key == FREE) return hasZeroKey ? zeroValue : noEntryValue;
+        int slot = locate(key);
+        return (slot >= 0) ? values[slot] : noEntryValue;
+    }
+
+    /**
+     * Place a key-value pair within the table.
+     *
+     * @post key-value pair is added to hash table
+     *
+     * @param key The key to be added to table.
+     * @param value The value associated with key.
+     * @return The old value associated with key, or noEntryValue.
+     */
+    public int put(int key, int value)
+    {
+        if (key == FREE) {
+            int oldValue = hasZeroKey ? zeroValue : noEntryValue;
+            if (!hasZeroKey) count++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return oldValue;
+        }
+        int slot = locate(key);
+        if (slot >= 0) {
+            // full slot; add new and return old value
+            int oldValue = values[slot];
+            values[slot] = value;
+            return oldValue;
+        }
+        insertAt(-slot - 1, key, value);
+        return noEntryValue;
+    }
+
+    /**
+     * Add delta to the value of a key, a key that is not in the table is
+     * added with the value noEntryValue+delta.
+     *
+     * @post the value of key is increased by delta
+     *
+     * @param key The key to be updated.
+     * @param delta The amount to add.
+     * @return The new value of the key.
+     */
+    public int addTo(int key, int delta)
+    {
+        if (key == FREE) {
+            int newValue = (hasZeroKey ? zeroValue : noEntryValue) + delta;
+            put(FREE, newValue);
+            return newValue;
+        }
+        int slot = locate(key);
+        if (slot >= 0) {
+            values[slot] += delta;
+            return values[slot];
+        }
+        insertAt(-slot - 1, key, noEntryValue + delta);
+        return noEntryValue + delta;
+    }
+
+    /**
+     * Remove a key-value pair from the table.
+     *
+     * @post removes key-value pair associated with key
+     *
+     * @param key The key of the key-value pair to be removed.
+     * @return The value associated with the removed key, or noEntryValue.
+     */
+    public int remove(int key)
+    {
+        if (key == FREE) {
+            if (!hasZeroKey) return noEntryValue;
+            count--;
+            hasZeroKey = false;
+            return zeroValue;
+        }
+        int slot = locate(key);
+        if (slot < 0) return noEntryValue;
+        int oldValue = values[slot];
+        count--;
+        shiftBack(slot);
+        return oldValue;
+    }
+
+    /**
+     * Returns the keys of the table, in no particular order.
+     *
+     * @post returns a new array with the keys of the table
+     *
+     * @return The keys within the table.
+     */
+    public int[] keys()
+    {
+        int[] result = new int[count];
+        int n = 0;
+        if (hasZeroKey) result[n++] = FREE;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) result[n++] = keys[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a view of this table as a structure5 Map.  The view boxes
+     * the keys and the values, and returns null for missing keys; changes
+     * through the view change the table.
+     *
+     * @post returns a Map backed by this table
+     *
+     * @return The Map view of the table.
+     */
+    public Map<Integer,Integer> asMap()
+    {
+        return new AbstractMap<Integer,Integer>()
+        {
+            public int size() { return IntIntHashtable.this.size(); }
+            public boolean isEmpty() { return IntIntHashtable.this.isEmpty(); }
+            public boolean containsKey(Integer k) { return IntIntHashtable.this.containsKey(k); }
+            public boolean containsValue(Integer v) { return IntIntHashtable.this.containsValue(v); }
+            public void clear() { IntIntHashtable.this.clear(); }
+
+            public Integer get(Integer k)
+            {
+                return containsKey(k) ? IntIntHashtable.this.get(k) : null;
+            }
+
+            public Integer put(Integer k, Integer v)
+            {
+                boolean present = containsKey(k);
+                int oldValue = IntIntHashtable.this.put(k, v);
+                return present ? oldValue : null;
+            }
+
+            public Integer remove(Integer k)
+            {
+                return containsKey(k) ? IntIntHashtable.this.remove(k) : null;
+            }
+
+            public Set<Integer> keySet()
+            {
+                Set<Integer> result = new SetList<Integer>();
+                for (int k : keys()) result.add(k);
+                return result;
+            }
+
+            public Structure<Integer> values()
+            {
+                List<Integer> result = new SinglyLinkedList<Integer>();
+                for (int k : keys()) result.add(IntIntHashtable.this.get(k));
+                return result;
+            }
+
+            public Set<Association<Integer,Integer>> entrySet()
+            {
+                Set<Association<Integer,Integer>> result = new SetList<Association<Integer,Integer>>();
+                for (int k : keys()) result.add(new Association<Integer,Integer>(k, IntIntHashtable.this.get(k)));
+                return result;
+            }
+
+            public String toString() { return IntIntHashtable.this.toString(); }
+        };
+    }
+
+    /**
+     * Returns the slot of the key or, if it is not in the table,
+     * -(slot where it would go)-1.
+     *
+     * @pre key != FREE
+     */
+    protected int locate(int key)
+    {
+        int slot = IntHashtable.hash(key) & mask;
+        int k;
+        while ((k = keys[slot]) != FREE)
+        {
+            if (k == key) return slot;
+            // linear probing
+            slot = (slot+1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private void insertAt(int slot, int key, int value)
+    {
+        keys[slot] = key;
+        values[slot] = value;
+        count++;
+        if (count > maximumLoadFactor*keys.length) extend();
+    }
+
+    /**
+     * Empty a slot and move back the keys after it that belong before it,
+     * so that no run of keys has a hole.
+     *
+     * @pre the slot holds a key
+     * @post the slot's pair is gone and every key is reachable from its
+     *       home slot without crossing an empty slot
+     */
+    protected void shiftBack(int hole)
+    {
+        int slot = (hole+1) & mask;
+        int k;
+        while ((k = keys[slot]) != FREE)
+        {
+            int home = IntHashtable.hash(k) & mask;
+            // the key can move if the hole is between its home and its slot
+            if (((slot - home) & mask) >= ((slot - hole) & mask))
+            {
+                keys[hole] = k;
+                values[hole] = values[slot];
+                hole = slot;
+            }
+            slot = (slot+1) & mask;
+        }
+        keys[hole] = FREE;
+    }
+
+    /**
+     * @post doubles the table to reduce loading
+     */
+    protected void extend()
+    {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            int k = oldKeys[i];
+            if (k != FREE)
+            {
+                int slot = -locate(k) - 1;
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int tableSize)
+    {
+        Assert.condition(tableSize > 0, "Hashtable size must be greater than 0.");
+        keys = new int[tableSize];
+        values = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    /**
+     * Generate a string representation of the hash table.
+     *
+     * @post returns a string representation of hash table
+     *
+     * @return The string representing the table.
+     */
+    public String toString()
+    {
+        StringBuffer s = new StringBuffer();
+        s.append("<IntIntHashtable: size="+size()+" capacity="+keys.length);
+        if (hasZeroKey) s.append(" key=0, value="+zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) s.append(" key="+keys[i]+", value="+values[i]);
+        }
+        s.append(">");
+        return s.toString();
+    }
+}
@@ -0,0 +1,392 @@
+// Implementation of mergeable min heaps using pairing heaps.
+package structure5;
+import java.util.ArrayList;
+
+/**
+ * An implementation of a mergeable priority queue using pairing heaps.
+ * A pairing heap is a tree in which every node is no greater than its
+ * children; the children of a node are kept in a linked list.  Adding
+ * a value and merging two heaps only compare the two roots, so they take
+ * constant time.  Removing the minimum pairs up the children of the root
+ * and takes amortized logarithmic time.
+ * <P>
+ * Unlike the other priority queues, {@link #insert(Comparable)} returns a
+ * {@link Handle} for the value.  The handle allows the value to be
+ * made smaller with {@link #decreaseKey(Handle, Comparable)} or removed
+ * with {@link #remove(Handle)} without searching for it, as Dijkstra's
+ * and Prim's algorithms need; there is no need to add the vertex again
+ * and skip the old copies later.
+ *
+ * <P>
+ * Example usage:
+ * <P>
+ * <pre>
+ * public static void main(String[] argv){
+ *      PairingHeap&lt;ComparableAssociation&lt;Integer,String&gt;&gt; distances =
+ *          new {@link #PairingHeap()};
+ *
+ *      PairingHeap.Handle&lt;ComparableAssociation&lt;Integer,String&gt;&gt; b =
+ *          distances.{@link #insert(Comparable) insert(new ComparableAssociation&lt;Integer,String&gt;(20, "B"))};
+ *      distances.add(new ComparableAssociation&lt;Integer,String&gt;(10, "A"));
+ *
+ *      //a shorter path to B was found
+ *      distances.{@link #decreaseKey(Handle, Comparable) decreaseKey(b, new ComparableAssociation&lt;Integer,String&gt;(5, "B"))};
+ *
+ *      while(!distances.{@link #isEmpty()}){
+ *          System.out.println(distances.{@link #remove()});
+ *      }
+ * }
+ * </pre>
+ * @author MAAG
+ */
+public class PairingHeap<E extends Comparable<E>> implements MergeableHeap<E>
+{
+    /**
+     * The root of the heap, null when the heap is empty.
+     */
+    protected Handle<E> root;
+
+    /**
+     * The number of nodes within heap.
+     */
+    protected int count;
+
+    /**
+     * Constructs an empty priority queue.
+     *
+     * @post creates an empty priority queue
+     */
+    public PairingHeap()
+    {
+        root = null;
+        count = 0;
+    }
+
+    /**
+     * Fetch lowest valued (highest priority) item from queue.
+     *
+     * @pre !isEmpty()
+     * @post returns the minimum value in priority queue
+     *
+     * @return The smallest value from queue.
+     */
+    public E getFirst()
+    {
+        Assert.pre(!isEmpty(), "Heap is not empty.");
+        return root.value;
+    }
+
+    /**
+     * Returns the minimum value from the queue.
+     *
+     * @pre !isEmpty()
+     * @post returns and removes minimum value from queue
+     *
+     * @return The minimum value in the queue.
+     */
+    public E remove()
+    {
+        Assert.pre(!isEmpty(), "Heap is not empty.");
+        Handle<E> result = root;
+        root = combineSiblings(result.child);
+        release(result);
+        count--;
+        return result.value;
+    }
+
+    /**
+     * Add a value to the priority queue.
+     *
+     * @pre value is non-null comparable
+     * @post value is added to priority queue
+     *
+     * @param value The value to be added.
+     */
+    public void add(E value)
+    {
+        insert(value);
+    }
+
+    /**
+     * Add a value to the priority queue and return its handle.
+     *
+     * @pre value is non-null comparable
+     * @post value is added to priority queue
+     *
+     * @param value The value to be added.
+     * @return The handle of the value, valid until it is removed.
+     */
+    public Handle<E> insert(E value)
+    {
+        Assert.pre(value != null, "Value is non-null.");
+        Handle<E> node = new Handle<E>(value);
+        root = meld(root, node);
+        count++;
+        return node;
+    }
+
+    /**
+     * Replace the value of a handle with a smaller or equal one and move
+     * it to its new place in the heap.
+     *
+     * @pre handle is in this heap, newValue is no greater than its value
+     * @post the handle holds newValue and the heap is ordered
+     *
+     * @param handle The handle returned when the value was inserted.
+     * @param newValue The new, smaller, value.
+     */
+    public void decreaseKey(Handle<E> handle, E newValue)
+    {
+        Assert.pre(handle.inHeap, "Handle is in the heap.");
+        Assert.pre(newValue != null && newValue.compareTo(handle.value) <= 0,
+                   "New value is not greater than the old one.");
+        handle.value = newValue;
+        if (handle != root)
+        {
+            cut(handle);
+            root = meld(root, handle);
+        }
+    }
+
+    /**
+     * Remove the value of a handle, wherever it is in the heap.
+     *
+     * @pre handle is in this heap
+     * @post the value of the handle is removed from the heap
+     *
+     * @param handle The handle returned when the value was inserted.
+     * @return The value that was removed.
+     */
+    public E remove(Handle<E> handle)
+    {
+        Assert.pre(handle.inHeap, "Handle is in the heap.");
+        if (handle == root) return remove();
+        cut(handle);
+        root = meld(root, combineSiblings(handle.child));
+        release(handle);
+        count--;
+        return handle.value;
+    }
+
+    /**
+     * Determine the size of the queue.
+     *
+     * @post returns number of elements within queue
+     *
+     * @return The number of elements within the queue.
+     */
+    public int size()
+    {
+        return count;
+    }
+
+    /**
+     * Remove all the elements from the queue.  Every node is released, so
+     * the handles of the removed values are no longer accepted.
+     *
+     * @post removes all elements from queue
+     */
+    public void clear()
+    {
+        ArrayList<Handle<E>> pending = new ArrayList<Handle<E>>();
+        if (root != null) pending.add(root);
+        while (!pending.isEmpty())
+        {
+            Handle<E> node = pending.remove(pending.size()-1);
+            for (Handle<E> c = node.child; c != null; c = c.sibling)
+            {
+                pending.add(c);
+            }
+            release(node);
+        }
+        root = null;
+        count = 0;
+    }
+
+    /**
+     * Determine if the queue is empty.
+     *
+     * @post returns true iff no elements are in queue
+     *
+     * @return True if the queue is empty.
+     */
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Merge this heap with another in constant time.  The handles of
+     * otherHeap are now handles of this heap.
+     *
+     * @param otherHeap Heap to be merged with this heap, otherHeap
+     * is left empty by this operation;
+     * @post the two heaps are merged and otherHeap is empty
+     */
+    public void merge(MergeableHeap<E> otherHeap)
+    {
+        Assert.pre(otherHeap instanceof PairingHeap,
+                   "otherHeap must be instance of PairingHeap");
+        PairingHeap<E> that = (PairingHeap<E>)otherHeap;
+        if (that == this) return;
+        root = meld(this.root, that.root);
+        this.count += that.count;
+        that.root = null;
+        that.count = 0;
+    }
+
+    /**
+     * Link two trees, the root with the larger value becomes the first
+     * child of the other one.
+     *
+     * @pre the roots have no siblings and no parent
+     * @post returns the root of the linked tree
+     */
+    protected static <E extends Comparable<E>>
+        Handle<E> meld(Handle<E> left, Handle<E> right)
+    {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (right.value.compareTo(left.value) < 0)
+        {
+            Handle<E> temp = left;
+            left = right;
+            right = temp;
+        }
+        // left is the new root
+        right.sibling = left.child;
+        if (left.child != null) left.child.previous = right;
+        right.previous = left;
+        left.child = right;
+        return left;
+    }
+
+    /**
+     * Unlink a node, with its subtree, from its parent and siblings.
+     *
+     * @pre node is not the root
+     * @post node is the root of a separate tree
+     */
+    protected static <E extends Comparable<E>> void cut(Handle<E> node)
+    {
+        if (node.previous.child == node)
+        {   // first child, previous is the parent
+            node.previous.child = node.sibling;
+        } else {
+            node.previous.sibling = node.sibling;
+        }
+        if (node.sibling != null) node.sibling.previous = node.previous;
+        node.previous = null;
+        node.sibling = null;
+    }
+
+    /**
+     * Combine a list of sibling trees into one with the two pass method:
+     * link them in pairs from left to right, then link the pairs from
+     * right to left.  Loops instead of recursion, the list may be as long
+     * as the heap.
+     *
+     * @post returns the root of the combined tree, null if first is null
+     */
+    protected static <E extends Comparable<E>>
+        Handle<E> combineSiblings(Handle<E> first)
+    {
+        if (first == null) return null;
+        // first pass, the pairs are stacked using the sibling reference
+        Handle<E> pairs = null;
+        while (first != null)
+        {
+            Handle<E> a = first;
+            Handle<E> b = a.sibling;
+            first = (b == null) ? null : b.sibling;
+            a.sibling = null;
+            a.previous = null;
+            if (b != null)
+            {
+                b.sibling = null;
+                b.previous = null;
+                a = meld(a, b);
+            }
+            a.sibling = pairs;
+            pairs = a;
+        }
+        // second pass, from the last pair back to the first
+        Handle<E> result = pairs;
+        pairs = pairs.sibling;
+        result.sibling = null;
+        while (pairs != null)
+        {
+            Handle<E> next = pairs.sibling;
+            pairs.sibling = null;
+            result = meld(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+
+    /**
+     * Mark a removed node so that its handle is no longer accepted.
+     */
+    protected static <E extends Comparable<E>> void release(Handle<E> node)
+    {
+        node.child = null;
+        node.sibling = null;
+        node.previous = null;
+        node.inHeap = false;
+    }
+
+    /**
+     * Construct a string representation of the heap.
+     *
+     * @post returns string representation of heap
+     *
+     * @return The string representing the heap.
+     */
+    public String toString()
+    {
+        StringBuffer sb = new StringBuffer();
+        sb.append("<PairingHeap:");
+        ArrayList<Handle<E>> pending = new ArrayList<Handle<E>>();
+        if (root != null) pending.add(root);
+        while (!pending.isEmpty())
+        {
+            Handle<E> node = pending.remove(pending.size()-1);
+            sb.append(" "+node.value);
+            for (Handle<E> c = node.child; c != null; c = c.sibling)
+            {
+                pending.add(c);
+            }
+        }
+        return sb+">";
+    }
+
+    /**
+     * A value inside a pairing heap.  It is also the node of the tree:
+     * child is its first child, sibling the next child of the same parent
+     * and previous the sibling before it or, for a first child, the parent.
+     */
+    public static final class Handle<E extends Comparable<E>>
+    {
+        private E value;
+        private Handle<E> child;
+        private Handle<E> sibling;
+        private Handle<E> previous;
+        private boolean inHeap;
+
+        Handle(E value)
+        {
+            this.value = value;
+            this.inHeap = true;
+        }
+
+        /**
+         * @post returns the current value of the handle
+         *
+         * @return The value of the handle.
+         */
+        public E value()
+        {
+            return value;
+        }
+    }
+}
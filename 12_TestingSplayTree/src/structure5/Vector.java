@@ -5,6 +5,8 @@
 package structure5;
 import java.util.Iterator;
 import java.util.Collection;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * An implementation of extensible arrays, similar to that of {@link java.util.Vector java.util.Vector}.
@@ -654,6 +656,21 @@ public class Vector<E> extends AbstractList<E> implements Cloneable
         return elementCount;
     }
 
+    /**
+     * Sort the elements of the vector in place.  The backing array
+     * is sorted directly, without copying the elements out of the vector,
+     * and large vectors are sorted in parallel.  The sort is stable.
+     *
+     * @post elements are in ascending order according to c
+     * 
+     * @param c The comparator that determines the order of the elements.
+     */
+@SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c)
+    {
+        Arrays.parallelSort((E[])elementData, 0, elementCount, c);
+    }
+
     /**
      * Trim the vector to exactly the correct size.
      *
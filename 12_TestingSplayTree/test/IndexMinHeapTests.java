@@ -0,0 +1,113 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import structure5.IndexMinHeap;
+
+class IndexMinHeapTests {
+
+	@Test
+	void test() {
+		IndexMinHeap myHeap = new IndexMinHeap(5);
+		myHeap.update(0, 20);
+		myHeap.update(1, 10);
+		myHeap.update(2, 15);
+		myHeap.update(3, 5);
+
+		assertEquals(4, myHeap.size());
+		assertEquals(3, myHeap.peek());
+		assertEquals(5.0, myHeap.peekPriority());
+
+		myHeap.update(3, 30); //goes down
+		myHeap.update(0, 1); //goes up
+		assertEquals(0, myHeap.peek());
+		assertTrue(myHeap.remove(2));
+		assertFalse(myHeap.remove(2));
+		assertFalse(myHeap.contains(2));
+		assertEquals(30.0, myHeap.getPriority(3));
+
+		assertEquals(0, myHeap.remove());
+		assertEquals(1, myHeap.remove());
+		assertEquals(3, myHeap.remove());
+		assertTrue(myHeap.isEmpty());
+
+		assertThrows(Error.class, () -> myHeap.peek());
+		assertThrows(Error.class, () -> myHeap.update(5, 1));
+	}
+
+	@Test
+	void topNOfAStream() {
+		int ids = 1000;
+		int n = 10;
+		double[] last = new double[ids];
+		IndexMinHeap top = new IndexMinHeap(ids);
+		Random random = new Random(11);
+
+		for (int i = 0; i < 100000; i++) {
+			int id = random.nextInt(ids);
+			double priority = random.nextInt(1000000);
+			last[id] = priority;
+			if (top.contains(id)) {
+				top.update(id, priority);
+			} else if (top.size() < n) {
+				top.update(id, priority);
+			} else if (priority > top.peekPriority()) {
+				top.remove();
+				top.update(id, priority);
+			}
+		}
+
+		//every id in the heap has its last priority and they leave in order
+		assertEquals(n, top.size());
+		for (int id = 0; id < ids; id++) {
+			if (top.contains(id)) {
+				assertEquals(last[id], top.getPriority(id));
+			}
+		}
+		double previous = Double.NEGATIVE_INFINITY;
+		while (!top.isEmpty()) {
+			double priority = top.peekPriority();
+			assertTrue(priority >= previous);
+			previous = priority;
+			top.remove();
+		}
+	}
+
+	@Test
+	void sameOrderAsSortedPriorities() {
+		int ids = 500;
+		double[] priority = new double[ids];
+		boolean[] inHeap = new boolean[ids];
+		IndexMinHeap myHeap = new IndexMinHeap(ids);
+		Random random = new Random(5);
+
+		for (int i = 0; i < 50000; i++) {
+			int id = random.nextInt(ids);
+			if (random.nextInt(4) > 0) {
+				priority[id] = random.nextInt(100);
+				inHeap[id] = true;
+				myHeap.update(id, priority[id]);
+			} else {
+				assertEquals(inHeap[id], myHeap.remove(id));
+				inHeap[id] = false;
+			}
+
+			double minimum = Double.POSITIVE_INFINITY;
+			int size = 0;
+			for (int j = 0; j < ids; j++) {
+				if (inHeap[j]) {
+					minimum = Math.min(minimum, priority[j]);
+					size++;
+				}
+			}
+			assertEquals(size, myHeap.size());
+			if (size > 0) {
+				assertEquals(minimum, myHeap.peekPriority());
+				assertEquals(minimum, priority[myHeap.peek()]);
+			}
+		}
+	}
+
+}
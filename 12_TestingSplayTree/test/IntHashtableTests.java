@@ -0,0 +1,113 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import structure5.IntHashtable;
+import structure5.IntIntHashtable;
+import structure5.Map;
+
+class IntHashtableTests {
+
+	@Test
+	void test() {
+		IntHashtable<String> students = new IntHashtable<String>();
+		assertNull(students.put(23001, "Ana"));
+		assertNull(students.put(23002, "Luis"));
+		assertNull(students.put(0, "Cero"));
+		assertEquals("Ana", students.put(23001, "Ana Maria"));
+
+		assertEquals(3, students.size());
+		assertEquals("Ana Maria", students.get(23001));
+		assertEquals("Cero", students.get(0));
+		assertNull(students.get(23003));
+		assertTrue(students.containsValue("Luis"));
+
+		assertEquals("Luis", students.remove(23002));
+		assertNull(students.remove(23002));
+		assertEquals("Cero", students.remove(0));
+		assertFalse(students.containsKey(0));
+		assertEquals(1, students.size());
+	}
+
+	@Test
+	void mapView() {
+		IntHashtable<String> students = new IntHashtable<String>();
+		Map<Integer, String> view = students.asMap();
+		view.put(10, "diez");
+		students.put(20, "veinte");
+
+		assertEquals(2, view.size());
+		assertEquals("veinte", view.get(20));
+		assertTrue(view.keySet().contains(10));
+		assertEquals(2, view.entrySet().size());
+		assertEquals("diez", view.remove(10));
+		assertFalse(students.containsKey(10));
+
+		IntIntHashtable counts = new IntIntHashtable();
+		Map<Integer, Integer> countView = counts.asMap();
+		assertNull(countView.get(5));
+		counts.put(5, 0);
+		assertEquals(0, (int) countView.get(5));
+		assertEquals(0, (int) countView.put(5, 3));
+		assertEquals(3, counts.get(5));
+	}
+
+	@Test
+	void addToAndNoEntryValue() {
+		IntIntHashtable counts = new IntIntHashtable(4, -1);
+		assertEquals(-1, counts.get(7));
+		assertEquals(0, counts.addTo(7, 1)); //-1 + 1
+		assertEquals(2, counts.addTo(7, 2));
+		assertEquals(-1, counts.put(0, 5));
+		assertEquals(6, counts.addTo(0, 1));
+		assertEquals(2, counts.remove(7));
+		assertEquals(-1, counts.remove(7));
+		assertEquals(1, counts.size());
+	}
+
+	@Test
+	void sameAsHashMap() {
+		Random random = new Random(9);
+		IntHashtable<Integer> table = new IntHashtable<Integer>(1);
+		IntIntHashtable intTable = new IntIntHashtable(1, Integer.MIN_VALUE);
+		HashMap<Integer, Integer> model = new HashMap<Integer, Integer>();
+
+		for (int i = 0; i < 200000; i++) {
+			//keys from a small range, and multiples of a power of two that collide
+			int key = random.nextBoolean() ? random.nextInt(2000) - 1000 : random.nextInt(64) << 16;
+			int operation = random.nextInt(3);
+			if (operation == 0) {
+				Integer expected = model.put(key, i);
+				assertEquals(expected, table.put(key, i));
+				assertEquals(expected == null ? Integer.MIN_VALUE : expected, intTable.put(key, i));
+			} else if (operation == 1) {
+				Integer expected = model.remove(key);
+				assertEquals(expected, table.remove(key));
+				assertEquals(expected == null ? Integer.MIN_VALUE : expected, intTable.remove(key));
+			} else {
+				Integer expected = model.get(key);
+				assertEquals(expected, table.get(key));
+				assertEquals(expected == null ? Integer.MIN_VALUE : expected, intTable.get(key));
+				assertEquals(model.containsKey(key), intTable.containsKey(key));
+			}
+			assertEquals(model.size(), table.size());
+			assertEquals(model.size(), intTable.size());
+		}
+
+		int[] keys = table.keys();
+		assertEquals(model.size(), keys.length);
+		for (int key : keys) {
+			assertEquals(model.get(key), table.get(key));
+		}
+		int values = 0;
+		for (Integer value : table) {
+			assertNotNull(value);
+			values++;
+		}
+		assertEquals(model.size(), values);
+	}
+
+}
@@ -0,0 +1,141 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import structure5.MergeableHeap;
+import structure5.PairingHeap;
+import structure5.SkewHeap;
+
+class PairingHeapTests {
+
+	@Test
+	void test() {
+		MergeableHeap<Integer> myHeap = new PairingHeap<Integer>();
+		myHeap.add(20);
+		myHeap.add(10);
+		myHeap.add(15);
+		myHeap.add(5);
+		myHeap.add(10);
+
+		assertEquals(5, myHeap.size());
+		assertEquals(5, (int) myHeap.getFirst());
+		assertEquals(5, (int) myHeap.remove());
+		assertEquals(10, (int) myHeap.remove());
+		assertEquals(10, (int) myHeap.remove());
+		assertEquals(15, (int) myHeap.remove());
+		assertEquals(20, (int) myHeap.remove());
+		assertTrue(myHeap.isEmpty());
+	}
+
+	@Test
+	void decreaseKeyAndRemoveHandle() {
+		PairingHeap<Integer> myHeap = new PairingHeap<Integer>();
+		ArrayList<PairingHeap.Handle<Integer>> handles = new ArrayList<PairingHeap.Handle<Integer>>();
+		for (int i = 0; i < 10; i++) {
+			handles.add(myHeap.insert(100 + i));
+		}
+		myHeap.remove(); //100, the other nodes are now in a tree
+
+		myHeap.decreaseKey(handles.get(7), 1);
+		assertEquals(1, (int) myHeap.getFirst());
+		assertEquals(105, (int) myHeap.remove(handles.get(5)));
+		assertEquals(8, myHeap.size());
+
+		assertEquals(1, (int) myHeap.remove());
+		assertEquals(101, (int) myHeap.remove());
+		assertEquals(102, (int) myHeap.remove());
+		assertEquals(103, (int) myHeap.remove());
+		assertEquals(104, (int) myHeap.remove());
+		assertEquals(106, (int) myHeap.remove());
+		assertEquals(108, (int) myHeap.remove());
+		assertEquals(109, (int) myHeap.remove());
+
+		//a removed handle and a greater value are rejected
+		assertThrows(Error.class, () -> myHeap.decreaseKey(handles.get(5), 0));
+		PairingHeap.Handle<Integer> handle = myHeap.insert(50);
+		assertThrows(Error.class, () -> myHeap.decreaseKey(handle, 60));
+	}
+
+	@Test
+	void clearReleasesHandles() {
+		PairingHeap<Integer> myHeap = new PairingHeap<Integer>();
+		PairingHeap.Handle<Integer> top = myHeap.insert(1);
+		PairingHeap.Handle<Integer> child = myHeap.insert(5);
+		myHeap.add(3);
+		myHeap.remove(); //1, the other values now form a tree below 3
+		PairingHeap.Handle<Integer> root = myHeap.insert(0);
+
+		myHeap.clear();
+		assertTrue(myHeap.isEmpty());
+		assertThrows(Error.class, () -> myHeap.decreaseKey(root, -1));
+		assertThrows(Error.class, () -> myHeap.decreaseKey(child, -1));
+		assertThrows(Error.class, () -> myHeap.remove(child));
+		assertThrows(Error.class, () -> myHeap.decreaseKey(top, -1));
+
+		myHeap.add(7);
+		assertEquals(1, myHeap.size());
+		assertEquals(7, (int) myHeap.getFirst());
+	}
+
+	@Test
+	void mergeKeepsHandles() {
+		PairingHeap<Integer> first = new PairingHeap<Integer>();
+		PairingHeap<Integer> second = new PairingHeap<Integer>();
+		first.add(3);
+		first.add(8);
+		PairingHeap.Handle<Integer> handle = second.insert(9);
+		second.add(4);
+
+		first.merge(second);
+		assertEquals(4, first.size());
+		assertTrue(second.isEmpty());
+
+		first.decreaseKey(handle, 1);
+		assertEquals(1, (int) first.remove());
+		assertEquals(3, (int) first.remove());
+		assertEquals(4, (int) first.remove());
+		assertEquals(8, (int) first.remove());
+
+		assertThrows(Error.class, () -> first.merge(new SkewHeap<Integer>()));
+	}
+
+	@Test
+	void sameOrderAsSkewHeap() {
+		Random random = new Random(7);
+		PairingHeap<Integer> pairing = new PairingHeap<Integer>();
+		SkewHeap<Integer> skew = new SkewHeap<Integer>();
+
+		for (int i = 0; i < 20000; i++) {
+			if (pairing.isEmpty() || random.nextInt(3) > 0) {
+				int value = random.nextInt(1000);
+				pairing.add(value);
+				skew.add(value);
+			} else {
+				assertEquals(skew.remove(), pairing.remove());
+			}
+			assertEquals(skew.size(), pairing.size());
+		}
+	}
+
+	@Test
+	void manySortedInserts() {
+		PairingHeap<Integer> myHeap = new PairingHeap<Integer>();
+		ArrayList<PairingHeap.Handle<Integer>> handles = new ArrayList<PairingHeap.Handle<Integer>>();
+		int size = 200000;
+		for (int i = 0; i < size; i++) {
+			handles.add(myHeap.insert(2 * i + size));
+		}
+		//the last ones become the first ones
+		for (int i = 0; i < size; i++) {
+			myHeap.decreaseKey(handles.get(i), size - 1 - i);
+		}
+		for (int i = 0; i < size; i++) {
+			assertEquals(i, (int) myHeap.remove());
+		}
+		assertTrue(myHeap.isEmpty());
+	}
+
+}
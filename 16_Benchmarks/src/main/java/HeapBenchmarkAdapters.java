@@ -0,0 +1,42 @@
+import edu.uvg.benchmarks.HeapBenchmark;
+
+/**
+ *
+ */
+
+/**
+ * Creates the heaps of 11_BinaryHeap for HeapBenchmark. It has to be in the
+ * default package, like the heaps, to be able to use them.
+ *
+ * @author MAAG
+ *
+ */
+public class HeapBenchmarkAdapters {
+
+	/**
+	 * @param implementation HeapUsingIterativeBinaryTree or HeapUsingArray
+	 * @param capacity elements that will be inserted, HeapUsingArray creates
+	 * its arrays with that size
+	 */
+	public static HeapBenchmark.Heap create(String implementation, int capacity) {
+		IHeap<Integer, Integer> heap;
+		if ("HeapUsingArray".equals(implementation)) {
+			heap = new HeapUsingArray<Integer, Integer>(Integer::compare, capacity);
+		} else {
+			heap = new HeapUsingIterativeBinaryTree<Integer, Integer>(Integer::compare);
+		}
+		return new HeapBenchmark.Heap() {
+
+			@Override
+			public void insert(Integer priority, Integer value) {
+				heap.Insert(priority, value);
+			}
+
+			@Override
+			public Integer remove() {
+				return heap.remove();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,150 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.uvg.structures.ConcurrentStack;
+import edu.uvg.structures.IStack;
+import edu.uvg.structures.StackHandmade;
+import estructuras.ArrayQueue;
+import estructuras.ConcurrentQueue;
+import estructuras.IQueue;
+
+/**
+ * Throughput of a stack and a queue shared by all the benchmark threads: the
+ * lock free ConcurrentStack and ConcurrentQueue against StackHandmade and
+ * ArrayQueue with every operation inside a synchronized block. The number of
+ * threads is chosen when running, for example with -t 1 up to -t 64.
+ * 
+ * @author MAAG
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentBenchmark {
+	
+	@Param({"lockFree", "synchronized"})
+	public String implementation;
+	
+	private IStack<Integer> stack;
+	private IQueue<Integer> queue;
+	
+	@Setup
+	public void setUp() {
+		if ("lockFree".equals(implementation)) {
+			stack = new ConcurrentStack<Integer>();
+			queue = new ConcurrentQueue<Integer>();
+		} else {
+			stack = new SynchronizedStack<Integer>(new StackHandmade<Integer>());
+			queue = new SynchronizedQueue<Integer>(new ArrayQueue<Integer>());
+		}
+	}
+	
+	/**
+	 * One push followed by one pull, so the stack stays small.
+	 */
+	@Benchmark
+	public Integer stackPushPull() {
+		stack.push(1);
+		return stack.pull();
+	}
+	
+	/**
+	 * One enqueue followed by one dequeue, so the queue stays small.
+	 */
+	@Benchmark
+	public Integer queueEnqueueDequeue() {
+		queue.enqueue(1);
+		return queue.dequeue();
+	}
+	
+	/**
+	 * The way the structures are shared today: every call holds the lock of
+	 * the wrapper.
+	 */
+	private static final class SynchronizedStack<T> implements IStack<T> {
+		
+		private final IStack<T> stack;
+		
+		SynchronizedStack(IStack<T> stack) {
+			this.stack = stack;
+		}
+		
+		@Override
+		public synchronized int count() {
+			return stack.count();
+		}
+		
+		@Override
+		public synchronized boolean isEmpty() {
+			return stack.isEmpty();
+		}
+		
+		@Override
+		public synchronized void push(T value) {
+			stack.push(value);
+		}
+		
+		@Override
+		public synchronized T pull() {
+			return stack.pull();
+		}
+		
+		@Override
+		public synchronized T peek() {
+			return stack.peek();
+		}
+	}
+	
+	private static final class SynchronizedQueue<E> implements IQueue<E> {
+		
+		private final IQueue<E> queue;
+		
+		SynchronizedQueue(IQueue<E> queue) {
+			this.queue = queue;
+		}
+		
+		@Override
+		public synchronized void enqueue(E value) {
+			queue.enqueue(value);
+		}
+		
+		@Override
+		public synchronized E dequeue() {
+			return queue.dequeue();
+		}
+		
+		@Override
+		public synchronized E peek() {
+			return queue.peek();
+		}
+		
+		@Override
+		public synchronized boolean empty() {
+			return queue.empty();
+		}
+		
+		@Override
+		public synchronized int size() {
+			return queue.size();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ *
+ */
+package edu.uvg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the heaps of 11_BinaryHeap: HeapUsingIterativeBinaryTree, that
+ * walks TreeNode pointers following the binary digits of the count, against
+ * HeapUsingArray, that moves through two arrays with index arithmetic. Each
+ * operation inserts all the keys and then removes them all.
+ *
+ * The classes of 11_BinaryHeap are in the default package, which can not be
+ * imported and where JMH does not accept benchmarks, so they are created by
+ * HeapBenchmarkAdapters (default package too) and used through the Heap
+ * interface.
+ *
+ * @author MAAG
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class HeapBenchmark {
+
+	/**
+	 * Insert and remove of an IHeap&lt;Integer, Integer&gt;.
+	 */
+	public interface Heap {
+
+		void insert(Integer priority, Integer value);
+
+		Integer remove();
+
+	}
+
+	@Param({"HeapUsingIterativeBinaryTree", "HeapUsingArray"})
+	public String implementation;
+
+	@Param({"RANDOM", "SORTED"})
+	public SortData.Distribution distribution;
+
+	@Param({"1000", "100000", "1000000"})
+	public int size;
+
+	private Integer[] keys;
+
+	@Setup
+	public void setUp() {
+		keys = SortData.generateIntegers(distribution, size);
+	}
+
+	private Heap newHeap() {
+		try {
+			return (Heap) Class.forName("HeapBenchmarkAdapters")
+					.getMethod("create", String.class, int.class)
+					.invoke(null, implementation, size);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Can not create " + implementation, e);
+		}
+	}
+
+	@Benchmark
+	public Integer insertThenRemove() {
+		Heap heap = newHeap();
+		for (Integer key : keys) {
+			heap.insert(key, key);
+		}
+		Integer last = null;
+		for (int i = 0; i < keys.length; i++) {
+			last = heap.remove();
+		}
+		return last;
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.uvg.structures.DoubleLinkedList;
+import edu.uvg.structures.IList;
+import edu.uvg.structures.SingleLinkedList;
+import edu.uvg.structures.UnrolledLinkedList;
+
+/**
+ * Compares the IList implementations of 02_ADT_Ejemplos: a full scan with the
+ * iterator, building the list with InsertAtEnd, and inserting and deleting in
+ * the middle of the list.
+ * 
+ * @author MAAG
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+	
+	@Param({"SingleLinkedList", "DoubleLinkedList", "UnrolledLinkedList"})
+	public String implementation;
+	
+	@Param({"100", "10000", "100000"})
+	public int size;
+	
+	private IList<Integer> list;
+	
+	@Setup
+	public void setUp() {
+		list = build();
+	}
+	
+	private IList<Integer> newList() {
+		switch (implementation) {
+		case "SingleLinkedList":
+			return new SingleLinkedList<Integer>();
+		case "DoubleLinkedList":
+			return new DoubleLinkedList<Integer>();
+		default:
+			return new UnrolledLinkedList<Integer>();
+		}
+	}
+	
+	private IList<Integer> build() {
+		IList<Integer> result = newList();
+		for (int i = 0; i < size; i++) {
+			result.InsertAtEnd(i);
+		}
+		return result;
+	}
+	
+	@Benchmark
+	public long scan() {
+		long sum = 0;
+		for (Integer value : list) {
+			sum += value;
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public IList<Integer> insertAtEnd() {
+		return build();
+	}
+	
+	/**
+	 * Inserts in the middle and deletes the same position, so the size of the
+	 * list does not change between invocations.
+	 */
+	@Benchmark
+	public Integer insertDeleteMiddle() {
+		int middle = list.Count() / 2;
+		list.Insert(-1, middle);
+		return list.Delete(middle);
+	}
+}
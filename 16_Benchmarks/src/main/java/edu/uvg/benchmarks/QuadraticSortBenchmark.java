@@ -0,0 +1,117 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.IComparator;
+import common.Sort;
+import gui.BubbleSort;
+import gui.QuickSort;
+
+/**
+ * Benchmarks the sorts whose worst case is O(n^2): the four algorithms of
+ * common.Sort, gui.BubbleSort and gui.QuickSort. The original quickSort
+ * methods pivot on the last element, so sorted and reversed inputs hit the
+ * quadratic case and recurse n levels deep; sizes stop at 10^4 for that reason.
+ * 
+ * @author MAAG
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadraticSortBenchmark {
+	
+	private static final IComparator<Integer> INTEGERS = (a, b) -> Integer.compare(a, b);
+	private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+	
+	@Param({"10", "100", "1000", "10000"})
+	public int size;
+	
+	@Param
+	public SortData.Distribution distribution;
+	
+	private Integer[] original;
+	private Integer[] work;
+	
+	private Sort<Integer> commonSort;
+	private BubbleSort<Integer> guiBubbleSort;
+	private QuickSort<Integer> guiQuickSort;
+	
+	@Setup
+	public void setUp() {
+		original = SortData.generateIntegers(distribution, size);
+		work = new Integer[size];
+		commonSort = new Sort<Integer>(INTEGERS);
+		guiBubbleSort = new BubbleSort<Integer>();
+		guiQuickSort = new QuickSort<Integer>();
+	}
+	
+	/**
+	 * Restores the unsorted input; every benchmark pays the same O(n) copy.
+	 */
+	private Integer[] reset() {
+		System.arraycopy(original, 0, work, 0, size);
+		return work;
+	}
+	
+	@Benchmark
+	public Integer[] commonBubbleSort() {
+		Integer[] values = reset();
+		commonSort.BubbleSort(values);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] commonSelectionSort() {
+		Integer[] values = reset();
+		commonSort.selectionSort(values);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] commonInsertionSort() {
+		Integer[] values = reset();
+		commonSort.insertionSort(values);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] commonQuickSort() {
+		Integer[] values = reset();
+		commonSort.quickSort(values, 0, values.length - 1);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] guiBubbleSort() {
+		Integer[] values = reset();
+		guiBubbleSort.sort(values, NATURAL);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] guiQuickSort() {
+		Integer[] values = reset();
+		guiQuickSort.quickSort(values, 0, values.length - 1, NATURAL);
+		return values;
+	}
+}
@@ -0,0 +1,91 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gui.SortingNetwork;
+
+/**
+ * Compares gui.SortingNetwork with insertion sort, the base case it replaced
+ * in gui.PrimitiveSort, on the small arrays left at the leaves of the
+ * quicksort recursion. Each call sorts a different random input taken from a
+ * pool, so the branch predictor can not learn a single input.
+ * 
+ * @author MAAG
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmallSortBenchmark {
+	
+	private static final int POOL_SIZE = 1 << 12;
+	
+	@Param({"4", "8", "12", "16"})
+	public int length;
+	
+	private int[][] inputs;
+	private int[] work;
+	private int next;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(20230101L);
+		inputs = new int[POOL_SIZE][length];
+		for (int[] input : inputs) {
+			for (int i = 0; i < length; i++) {
+				input[i] = random.nextInt();
+			}
+		}
+		work = new int[length];
+	}
+	
+	/**
+	 * Copies the next input of the pool to the work array.
+	 */
+	private int[] nextInput() {
+		next = (next + 1) & (POOL_SIZE - 1);
+		System.arraycopy(inputs[next], 0, work, 0, length);
+		return work;
+	}
+	
+	@Benchmark
+	public int[] sortingNetwork() {
+		int[] values = nextInput();
+		SortingNetwork.sort(values, 0, length);
+		return values;
+	}
+	
+	@Benchmark
+	public int[] insertionSort() {
+		int[] values = nextInput();
+		for (int index = 1; index < length; index++) {
+			int key = values[index];
+			int position = index;
+			while (position > 0 && key < values[position - 1]) {
+				values[position] = values[position - 1];
+				position--;
+			}
+			values[position] = key;
+		}
+		return values;
+	}
+}
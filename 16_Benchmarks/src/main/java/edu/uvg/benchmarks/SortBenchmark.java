@@ -0,0 +1,107 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import common.IComparator;
+import common.Sort;
+import gui.QuickSort;
+
+/**
+ * Benchmarks the O(n log n) sorts of common.Sort and gui.QuickSort against
+ * Collections.sort for inputs from 10 to 10^7 elements.
+ * 
+ * @author MAAG
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+	
+	private static final IComparator<Integer> INTEGERS = (a, b) -> Integer.compare(a, b);
+	private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+	
+	@Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+	public int size;
+	
+	@Param
+	public SortData.Distribution distribution;
+	
+	private Integer[] original;
+	private Integer[] work;
+	
+	private Sort<Integer> commonSort;
+	private QuickSort<Integer> guiQuickSort;
+	
+	@Setup
+	public void setUp() {
+		original = SortData.generateIntegers(distribution, size);
+		work = new Integer[size];
+		commonSort = new Sort<Integer>(INTEGERS);
+		guiQuickSort = new QuickSort<Integer>();
+	}
+	
+	/**
+	 * Restores the unsorted input; every benchmark pays the same O(n) copy.
+	 */
+	private Integer[] reset() {
+		System.arraycopy(original, 0, work, 0, size);
+		return work;
+	}
+	
+	@Benchmark
+	public Integer[] commonIntroSort() {
+		Integer[] values = reset();
+		commonSort.introSort(values);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] commonParallelMergeSort() {
+		Integer[] values = reset();
+		commonSort.parallelMergeSort(values);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] commonAdaptiveMergeSort() {
+		Integer[] values = reset();
+		commonSort.adaptiveMergeSort(values);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] guiIntroSort() {
+		Integer[] values = reset();
+		guiQuickSort.introSort(values, NATURAL);
+		return values;
+	}
+	
+	@Benchmark
+	public Integer[] collectionsSort() {
+		Integer[] values = reset();
+		Collections.sort(Arrays.asList(values), NATURAL);
+		return values;
+	}
+}
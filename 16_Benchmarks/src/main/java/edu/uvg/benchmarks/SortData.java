@@ -0,0 +1,84 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates the input arrays used by the sorting benchmarks. The same seed is
+ * always used so every algorithm sorts exactly the same data.
+ * 
+ * @author MAAG
+ *
+ */
+public final class SortData {
+	
+	private static final long SEED = 20230101L;
+	
+	/**
+	 * Shape of the generated input.
+	 */
+	public enum Distribution {
+		/** Uniformly distributed random values. */
+		RANDOM,
+		/** Values already in ascending order. */
+		SORTED,
+		/** Values in descending order. */
+		REVERSED,
+		/** Random values taken from only ten different keys. */
+		FEW_UNIQUE,
+		/** Ascending runs of about sqrt(n) elements that restart from zero. */
+		SAWTOOTH
+	}
+	
+	private SortData() {
+	}
+	
+	/**
+	 * Returns size values following the given distribution.
+	 */
+	public static int[] generateInts(Distribution distribution, int size) {
+		Random random = new Random(SEED);
+		int[] values = new int[size];
+		int tooth = Math.max(2, (int) Math.sqrt(size));
+		
+		for (int i = 0; i < size; i++) {
+			switch (distribution) {
+			case RANDOM:
+				values[i] = random.nextInt();
+				break;
+			case SORTED:
+				values[i] = i;
+				break;
+			case REVERSED:
+				values[i] = size - i;
+				break;
+			case FEW_UNIQUE:
+				values[i] = random.nextInt(10);
+				break;
+			case SAWTOOTH:
+				values[i] = i % tooth;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown distribution " + distribution);
+			}
+		}
+		
+		return values;
+	}
+	
+	/**
+	 * Returns the same values as generateInts, boxed.
+	 */
+	public static Integer[] generateIntegers(Distribution distribution, int size) {
+		int[] values = generateInts(distribution, size);
+		Integer[] boxed = new Integer[size];
+		
+		for (int i = 0; i < size; i++) {
+			boxed[i] = values[i];
+		}
+		
+		return boxed;
+	}
+}
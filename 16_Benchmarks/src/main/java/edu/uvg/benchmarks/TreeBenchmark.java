@@ -0,0 +1,84 @@
+/**
+ * 
+ */
+package edu.uvg.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.uvg.structures.AVLTree;
+import edu.uvg.structures.BinarySearchTree;
+import edu.uvg.structures.IBinarySearchTree;
+
+/**
+ * Compares the unbalanced BinarySearchTree with AVLTree: building the tree
+ * with insert and looking up every key once. With SORTED keys the unbalanced
+ * tree becomes a list and both operations are O(n) per key, SAWTOOTH stands
+ * for ids that arrive almost in order.
+ * 
+ * @author MAAG
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeBenchmark {
+	
+	@Param({"BinarySearchTree", "AVLTree"})
+	public String implementation;
+	
+	@Param({"RANDOM", "SORTED", "SAWTOOTH"})
+	public SortData.Distribution distribution;
+	
+	@Param({"1000", "10000"})
+	public int size;
+	
+	private Integer[] keys;
+	private IBinarySearchTree<Integer, Integer> tree;
+	
+	@Setup
+	public void setUp() {
+		keys = SortData.generateIntegers(distribution, size);
+		tree = build();
+	}
+	
+	private IBinarySearchTree<Integer, Integer> build() {
+		IBinarySearchTree<Integer, Integer> result;
+		if ("AVLTree".equals(implementation)) {
+			result = new AVLTree<Integer, Integer>(Integer::compare);
+		} else {
+			result = new BinarySearchTree<Integer, Integer>(Integer::compare);
+		}
+		for (Integer key : keys) {
+			result.insert(key, key);
+		}
+		return result;
+	}
+	
+	@Benchmark
+	public IBinarySearchTree<Integer, Integer> insert() {
+		return build();
+	}
+	
+	@Benchmark
+	public void find(Blackhole blackhole) {
+		for (Integer key : keys) {
+			blackhole.consume(tree.find(key));
+		}
+	}
+}